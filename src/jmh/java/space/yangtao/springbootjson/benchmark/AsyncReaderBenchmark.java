@@ -0,0 +1,67 @@
+package space.yangtao.springbootjson.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.yangtao.springbootjson.utils.AsyncJsonReader;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 完整字节数组一次解析，与按 8KB 分块喂入非阻塞读取器逐个交付元素的对比
+ *
+ * @author yangtao
+ * @since 2025/8/9 11:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncReaderBenchmark {
+
+    private static final int CHUNK = 8192;
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"FIXTURE_USER", "DOMAIN_USER"})
+    public BenchmarkData.Model model;
+
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JacksonUtilBootstrap.init();
+        json = JacksonUtil.toJsonBytesOrThrow(model.create(payload.size()));
+    }
+
+    @Benchmark
+    public Object fullArray() {
+        return JacksonUtil.parseObjectOrThrow(json, model.arrayType());
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public long asyncChunks(Blackhole blackhole) {
+        AsyncJsonReader<Object> reader = (AsyncJsonReader<Object>) JacksonUtil.newAsyncReader(model.elementType());
+        for (int offset = 0; offset < json.length; offset += CHUNK) {
+            reader.feed(json, offset, Math.min(CHUNK, json.length - offset), blackhole::consume);
+        }
+        reader.end(blackhole::consume);
+        return reader.getCount();
+    }
+}
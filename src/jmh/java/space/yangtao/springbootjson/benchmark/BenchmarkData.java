@@ -0,0 +1,196 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import space.yangtao.springbootjson.domain.Animal;
+import space.yangtao.springbootjson.domain.EncryptedPhone;
+import space.yangtao.springbootjson.domain.Person;
+import space.yangtao.springbootjson.domain.User;
+import space.yangtao.springbootjson.test.JacksonUtilTest;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 基准测试数据
+ *
+ * @author yangtao
+ * @since 2025/7/28 10:20
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 负载规模
+     */
+    public enum Payload {
+        SMALL(1),
+        MEDIUM(100),
+        LARGE(10_000);
+
+        private final int size;
+
+        Payload(int size) {
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * 测试模型
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public enum Model {
+        FIXTURE_USER(JacksonUtilTest.User.class, JacksonUtilTest.User[].class,
+                new TypeReference<JacksonUtilTest.User>() {}, new TypeReference<List<JacksonUtilTest.User>>() {},
+                BenchmarkData::fixtureUser),
+        DOMAIN_USER(User.class, User[].class,
+                new TypeReference<User>() {}, new TypeReference<List<User>>() {},
+                BenchmarkData::domainUser),
+        PERSON(Person.class, Person[].class,
+                new TypeReference<Person>() {}, new TypeReference<List<Person>>() {},
+                null),
+        ANIMAL(Animal.class, Animal[].class,
+                new TypeReference<Animal>() {}, new TypeReference<List<Animal>>() {},
+                BenchmarkData::animal);
+
+        private final Class elementType;
+        private final Class arrayType;
+        private final TypeReference elementTypeRef;
+        private final TypeReference listTypeRef;
+        private final IntFunction<Object> factory;
+
+        Model(Class elementType, Class arrayType, TypeReference elementTypeRef,
+              TypeReference listTypeRef, IntFunction<Object> factory) {
+            this.elementType = elementType;
+            this.arrayType = arrayType;
+            this.elementTypeRef = elementTypeRef;
+            this.listTypeRef = listTypeRef;
+            this.factory = factory;
+        }
+
+        public <T> Class<T> elementType() {
+            return elementType;
+        }
+
+        public <T> Class<T> arrayType() {
+            return arrayType;
+        }
+
+        public <T> TypeReference<T> elementTypeRef() {
+            return elementTypeRef;
+        }
+
+        public <T> TypeReference<List<T>> listTypeRef() {
+            return listTypeRef;
+        }
+
+        /**
+         * 生成指定数量的对象数组
+         * <p>
+         * 使用元素类型的数组而非 List：List 的元素声明类型为 Object，Animal 的类型标识不会被写出
+         */
+        public Object[] create(int size) {
+            Object[] array = (Object[]) Array.newInstance(elementType, size);
+            if (this == PERSON) {
+                return persons(size).toArray(array);
+            }
+            for (int i = 0; i < size; i++) {
+                array[i] = factory.apply(i);
+            }
+            return array;
+        }
+    }
+
+    private static final JacksonUtilTest FIXTURES = new JacksonUtilTest();
+
+    private static final int PERSON_GROUP = 50;
+
+    /**
+     * JacksonUtilTest.User：以测试控制器中的样例数据为模板
+     */
+    static JacksonUtilTest.User fixtureUser(int i) {
+        Map<String, Object> attributes = FIXTURES.getMap();
+        attributes.put("index", i);
+        return FIXTURES.getUser()
+                .setId(100_000L + i)
+                .setName("user-" + i)
+                .setAge(18 + i % 50)
+                .setActive(i % 2 == 0)
+                .setBalance(new BigDecimal("9876.54").add(BigDecimal.valueOf(i)))
+                .setUpdateTime(new Date(1753257600000L + i * 1000L))
+                .setRoles(Arrays.asList("USER", "EDITOR", "R" + i % 10))
+                .setAttributes(attributes)
+                .setGender(i % 2 == 0 ? JacksonUtilTest.User.Gender.MALE : JacksonUtilTest.User.Gender.FEMALE);
+    }
+
+    /**
+     * domain.User：覆盖自定义序列化器、@JsonFormat、@JsonView、@JsonIgnore 等注解
+     */
+    static User domainUser(int i) {
+        User user = new User()
+                .setId(200_000L + i)
+                .setName("domain-" + i)
+                .setAge(20 + i % 40)
+                .setBalance(new BigDecimal("500000000000.00").add(BigDecimal.valueOf(i)))
+                .setGender(User.Gender.values()[i % 3])
+                .setBirthday(LocalDate.of(1990, 1, 1).plusDays(i % 3650))
+                .setCreateTime(LocalDateTime.of(2025, 7, 23, 16, 0, 0).plusSeconds(i))
+                .setUnsafeAmount(new BigDecimal("123456789012345678905555555555.123456"))
+                .setSafeAmount(new BigDecimal("123456789012345678905555555555.123456"))
+                .setChars(new char[]{'a', 'b', 'c'})
+                .setPassword("secret")
+                .setActive(i % 2 == 1)
+                .setPhoneNumber(String.valueOf(13800000000L + i));
+        user.publicField = "public-" + i;
+        user.internalField = "internal-" + i;
+        user.phone = new EncryptedPhone(String.valueOf(13900000000L + i));
+        return user;
+    }
+
+    /**
+     * Animal：多态类型
+     */
+    static Animal animal(int i) {
+        if (i % 2 == 0) {
+            Animal.Dog dog = new Animal.Dog();
+            dog.boneCount = i;
+            return dog;
+        }
+        Animal.Cat cat = new Animal.Cat();
+        cat.lazy = i % 3 == 0;
+        return cat;
+    }
+
+    /**
+     * Person：带对象标识的好友关系图，每人引用同组（每 PERSON_GROUP 人一组）内的前两位
+     * <p>
+     * 分组限制了好友链的长度：单独转换某个人时整条链都会内联写出，不分组时深度随数据量线性增长
+     */
+    static List<Person> persons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Person person = new Person().setId(300_000L + i).setName("person-" + i);
+            List<Person> friends = new ArrayList<>(2);
+            for (int j = Math.max(i - i % PERSON_GROUP, i - 2); j < i; j++) {
+                friends.add(persons.get(j));
+            }
+            person.setFriends(friends.isEmpty() ? Collections.emptyList() : friends);
+            persons.add(person);
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,28 @@
+package space.yangtao.springbootjson.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口，默认附加 GC 分析器以输出分配速率（gc.alloc.rate / gc.alloc.rate.norm）
+ * <p>
+ * 参数与 JMH 命令行一致，例如：{@code JacksonUtilBenchmark.parseArray -p payload=LARGE}
+ *
+ * @author yangtao
+ * @since 2025/7/28 11:02
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
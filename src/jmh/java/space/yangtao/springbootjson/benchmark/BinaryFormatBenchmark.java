@@ -0,0 +1,91 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 与 Smile / CBOR 的编解码耗时对比；各格式的字节数在 setUp 时输出
+ *
+ * @author yangtao
+ * @since 2025/8/6 16:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"FIXTURE_USER", "DOMAIN_USER"})
+    public BenchmarkData.Model model;
+
+    private Object[] users;
+    private byte[] json;
+    private byte[] smile;
+    private byte[] cbor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper mapper = JacksonUtilBootstrap.init();
+        users = model.create(payload.size());
+        json = JacksonUtil.toJsonBytesOrThrow(users);
+        smile = JacksonUtil.toSmileBytesOrThrow(users);
+        cbor = JacksonUtil.toCborBytesOrThrow(users);
+        System.out.printf("%n[%s x %d] json = %d bytes, smile = %d bytes (%.1f%%), cbor = %d bytes (%.1f%%)%n",
+                model, payload.size(), json.length,
+                smile.length, 100.0 * smile.length / json.length,
+                cbor.length, 100.0 * cbor.length / json.length);
+        if (!mapper.valueToTree(users).equals(mapper.valueToTree(JacksonUtil.parseSmileOrThrow(smile, model.arrayType())))) {
+            throw new IllegalStateException("Smile 往返结果与原对象不一致");
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return JacksonUtil.toJsonBytesOrThrow(users);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() {
+        return JacksonUtil.toSmileBytesOrThrow(users);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() {
+        return JacksonUtil.toCborBytesOrThrow(users);
+    }
+
+    @Benchmark
+    public Object decodeJson() {
+        return JacksonUtil.parseObjectOrThrow(json, model.arrayType());
+    }
+
+    @Benchmark
+    public Object decodeSmile() {
+        return JacksonUtil.parseSmileOrThrow(smile, model.arrayType());
+    }
+
+    @Benchmark
+    public Object decodeCbor() {
+        return JacksonUtil.parseCborOrThrow(cbor, model.arrayType());
+    }
+}
@@ -0,0 +1,97 @@
+package space.yangtao.springbootjson.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.domain.User;
+import space.yangtao.springbootjson.utils.JacksonBulkPolicy;
+import space.yangtao.springbootjson.utils.JacksonResult;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 逐个元素顺序处理，与 JacksonUtil 批量方法按不同并行度分块处理的对比
+ *
+ * @author yangtao
+ * @since 2025/8/9 16:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private List<Object> users;
+    private List<String> jsons;
+    private List<Map<String, Object>> maps;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        JacksonUtilBootstrap.init();
+        JacksonUtil.setBulkPolicy(new JacksonBulkPolicy().setParallelism(parallelism).setSequentialThreshold(0));
+        users = Arrays.asList(BenchmarkData.Model.DOMAIN_USER.create(payload.size()));
+        jsons = users.stream().map(JacksonUtil::toJsonStringOrThrow).collect(Collectors.toList());
+        maps = jsons.stream().map(json -> (Map<String, Object>) JacksonUtil.parseObjectOrThrow(json, Map.class))
+                .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        JacksonUtil.setBulkPolicy(null);
+    }
+
+    @Benchmark
+    public List<String> serializeSequential() {
+        return users.stream().map(JacksonUtil::toJsonStringOrThrow).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<JacksonResult<String>> serializeBulk() {
+        return JacksonUtil.toJsonStrings(users);
+    }
+
+    @Benchmark
+    public List<User> parseSequential() {
+        return jsons.stream().map(json -> JacksonUtil.parseObjectOrThrow(json, User.class)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<JacksonResult<User>> parseBulk() {
+        return JacksonUtil.parseAll(jsons, User.class);
+    }
+
+    @Benchmark
+    public List<User> convertSequential() {
+        return JacksonUtil.convertListOrThrow(maps, User.class);
+    }
+
+    @Benchmark
+    public List<JacksonResult<User>> convertBulk() {
+        return JacksonUtil.convertAll(maps, User.class);
+    }
+}
@@ -0,0 +1,60 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 深克隆：TokenBuffer 复制与旧版“序列化为字符串再解析”的对比
+ *
+ * @author yangtao
+ * @since 2025/7/29 16:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CloneBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"FIXTURE_USER", "DOMAIN_USER", "PERSON", "ANIMAL"})
+    public BenchmarkData.Model model;
+
+    private ObjectMapper mapper;
+    private Object[] source;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = JacksonUtilBootstrap.init();
+        source = model.create(payload.size());
+    }
+
+    @Benchmark
+    public Object stringRoundTrip() throws JsonProcessingException {
+        return mapper.readValue(mapper.writeValueAsString(source), model.arrayType());
+    }
+
+    @Benchmark
+    public Object tokenBuffer() {
+        return JacksonUtil.cloneOrThrow(source, model.arrayType());
+    }
+}
@@ -0,0 +1,125 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.module.DateTimeCodecModule;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日期时间：DateTimeCodecModule 与旧版“SimpleDateFormat + DateTimeFormatter”配置的对比
+ *
+ * @author yangtao
+ * @since 2025/8/4 15:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateTimeBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    private ObjectMapper formatterMapper;
+    private ObjectMapper codecMapper;
+    private Event[] events;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        formatterMapper = baseMapper();
+        JavaTimeModule javaTime = new JavaTimeModule();
+        DateTimeFormatter dateTime = DateTimeFormatter.ofPattern(DateTimeCodecModule.DATE_TIME_PATTERN);
+        DateTimeFormatter date = DateTimeFormatter.ofPattern(DateTimeCodecModule.DATE_PATTERN);
+        javaTime.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(dateTime));
+        javaTime.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(dateTime));
+        javaTime.addSerializer(LocalDate.class, new LocalDateSerializer(date));
+        javaTime.addDeserializer(LocalDate.class, new LocalDateDeserializer(date));
+        formatterMapper.registerModule(javaTime);
+
+        codecMapper = baseMapper();
+        codecMapper.registerModule(new JavaTimeModule());
+        codecMapper.registerModule(new DateTimeCodecModule(ZoneId.of("Asia/Shanghai")));
+
+        events = new Event[payload.size()];
+        LocalDateTime base = LocalDateTime.of(2025, 7, 23, 16, 0);
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Event(new Date(1_753_257_600_000L + i * 61_000L), base.plusSeconds(i * 61L), base.toLocalDate().plusDays(i));
+        }
+        json = codecMapper.writeValueAsBytes(events);
+    }
+
+    private static ObjectMapper baseMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.setDateFormat(new SimpleDateFormat(DateTimeCodecModule.DATE_TIME_PATTERN));
+        mapper.setTimeZone(TimeZone.getTimeZone("Asia/Shanghai"));
+        return mapper;
+    }
+
+    @Benchmark
+    public byte[] writeFormatter() throws IOException {
+        return formatterMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] writeCodec() throws IOException {
+        return codecMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public Event[] readFormatter() throws IOException {
+        return formatterMapper.readValue(json, Event[].class);
+    }
+
+    @Benchmark
+    public Event[] readCodec() throws IOException {
+        return codecMapper.readValue(json, Event[].class);
+    }
+
+    public static class Event {
+
+        public Date updateTime;
+
+        public LocalDateTime createTime;
+
+        public LocalDate birthday;
+
+        public Event() {
+        }
+
+        Event(Date updateTime, LocalDateTime createTime, LocalDate birthday) {
+            this.updateTime = updateTime;
+            this.createTime = createTime;
+            this.birthday = birthday;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.module.EnumCode;
+import space.yangtao.springbootjson.module.EnumCodec;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 编码枚举：EnumCodecModule 查表与“toString 输出 + @JsonCreator 线性查找”的对比
+ *
+ * @author yangtao
+ * @since 2025/8/1 14:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumCodecBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    private ObjectMapper mapper;
+    private PlainStatus[] plain;
+    private CodecStatus[] codec;
+    private byte[] plainJson;
+    private byte[] codecJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = JacksonUtilBootstrap.init();
+        int size = payload.size();
+        plain = new PlainStatus[size];
+        codec = new CodecStatus[size];
+        for (int i = 0; i < size; i++) {
+            plain[i] = PlainStatus.values()[i % PlainStatus.values().length];
+            codec[i] = CodecStatus.values()[i % CodecStatus.values().length];
+        }
+        plainJson = mapper.writeValueAsBytes(plain);
+        codecJson = mapper.writeValueAsBytes(codec);
+    }
+
+    @Benchmark
+    public byte[] writePlain() throws IOException {
+        return mapper.writeValueAsBytes(plain);
+    }
+
+    @Benchmark
+    public byte[] writeCodec() throws IOException {
+        return mapper.writeValueAsBytes(codec);
+    }
+
+    @Benchmark
+    public PlainStatus[] readPlain() throws IOException {
+        return mapper.readValue(plainJson, new TypeReference<PlainStatus[]>() {
+        });
+    }
+
+    @Benchmark
+    public CodecStatus[] readCodec() throws IOException {
+        return mapper.readValue(codecJson, new TypeReference<CodecStatus[]>() {
+        });
+    }
+
+    public enum PlainStatus {
+        CREATED("created"), PAID("paid"), SHIPPED("shipped"), DELIVERED("delivered"),
+        CANCELLED("cancelled"), REFUNDING("refunding"), REFUNDED("refunded"), CLOSED("closed");
+
+        private final String code;
+
+        PlainStatus(String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+
+        @JsonCreator
+        public static PlainStatus fromValue(String value) {
+            for (PlainStatus status : values()) {
+                if (status.code.equals(value)) {
+                    return status;
+                }
+            }
+            return null;
+        }
+    }
+
+    @EnumCodec
+    public enum CodecStatus {
+        @EnumCode("created") CREATED,
+        @EnumCode("paid") PAID,
+        @EnumCode("shipped") SHIPPED,
+        @EnumCode("delivered") DELIVERED,
+        @EnumCode("cancelled") CANCELLED,
+        @EnumCode("refunding") REFUNDING,
+        @EnumCode("refunded") REFUNDED,
+        @EnumCode("closed") CLOSED
+    }
+}
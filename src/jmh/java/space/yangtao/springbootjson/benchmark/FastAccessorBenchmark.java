@@ -0,0 +1,82 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.module.FastAccessorModule;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User 往返：反射访问与 FastAccessorModule（Afterburner）的对比
+ * <p>
+ * FIXTURE_USER 为 Lombok @Accessors(chain = true) 的链式 setter，DOMAIN_USER 为普通 @Data Bean
+ *
+ * @author yangtao
+ * @since 2025/8/6 11:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FastAccessorBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"FIXTURE_USER", "DOMAIN_USER"})
+    public BenchmarkData.Model model;
+
+    private ObjectMapper reflectionMapper;
+    private ObjectMapper fastMapper;
+    private Object[] users;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        reflectionMapper = JacksonUtilBootstrap.init();
+        ObjectMapper reference = reflectionMapper.copy();
+        FastAccessorModule module = new FastAccessorModule();
+        fastMapper = reflectionMapper.copy().registerModule(module);
+        if (!module.selfCheck(fastMapper.copy(), reference, Arrays.asList(model.elementType())).isEmpty()) {
+            throw new IllegalStateException(model + " 未通过字节码访问自检");
+        }
+        users = model.create(payload.size());
+        json = reflectionMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] writeReflection() throws IOException {
+        return reflectionMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] writeFast() throws IOException {
+        return fastMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public Object readReflection() throws IOException {
+        return reflectionMapper.readValue(json, model.arrayType());
+    }
+
+    @Benchmark
+    public Object readFast() throws IOException {
+        return fastMapper.readValue(json, model.arrayType());
+    }
+}
@@ -0,0 +1,165 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonUtil 全部入口的基准测试
+ *
+ * @author yangtao
+ * @since 2025/7/28 10:45
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonUtilBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private static final TypeReference<List<Map<String, Object>>> MAP_LIST_TYPE = new TypeReference<List<Map<String, Object>>>() {};
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"FIXTURE_USER", "DOMAIN_USER", "PERSON", "ANIMAL"})
+    public BenchmarkData.Model model;
+
+    private Object[] source;
+    private List<Object> sourceList;
+    private List<Map<String, Object>> sourceMaps;
+    private String json;
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JacksonUtilBootstrap.init();
+        source = model.create(payload.size());
+        sourceList = Arrays.asList(source);
+        json = JacksonUtil.toJsonStringOrThrow(source);
+        // 从整体序列化结果解析：引用的对象只展开一次、多态类型带类型 ID，转回时不会出现重复的对象 ID
+        sourceMaps = JacksonUtil.parseObjectOrThrow(json, MAP_LIST_TYPE);
+        bytes = JacksonUtil.toJsonBytesOrThrow(source);
+        // 提前暴露数据问题，避免基准测试测量的是异常分支
+        JacksonUtil.parseArrayOrThrow(json, model.elementType());
+        JacksonUtil.convertListOrThrow(sourceMaps, model.elementType());
+    }
+
+    /*==================  序列化  ==================*/
+
+    @Benchmark
+    public String toJsonString() {
+        return JacksonUtil.toJsonStringOrThrow(source);
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes() {
+        return JacksonUtil.toJsonBytesOrThrow(source);
+    }
+
+    /*==================  反序列化  ==================*/
+
+    @Benchmark
+    public Object parseObjectClass() {
+        return JacksonUtil.parseObjectOrThrow(json, model.arrayType());
+    }
+
+    @Benchmark
+    public Object parseObjectTypeRef() {
+        return JacksonUtil.parseObjectOrThrow(json, model.listTypeRef());
+    }
+
+    @Benchmark
+    public Object parseObjectBytesClass() {
+        return JacksonUtil.parseObjectOrThrow(bytes, model.arrayType());
+    }
+
+    @Benchmark
+    public Object parseObjectBytesTypeRef() {
+        return JacksonUtil.parseObjectOrThrow(bytes, model.listTypeRef());
+    }
+
+    @Benchmark
+    public List<Object> parseArrayClass() {
+        return JacksonUtil.parseArrayOrThrow(json, model.elementType());
+    }
+
+    @Benchmark
+    public List<Object> parseArrayTypeRef() {
+        return JacksonUtil.parseArrayOrThrow(json, model.elementTypeRef());
+    }
+
+    @Benchmark
+    public List<Object> parseArrayBytesClass() {
+        return JacksonUtil.parseArrayOrThrow(bytes, model.elementType());
+    }
+
+    @Benchmark
+    public List<Object> parseArrayBytesTypeRef() {
+        return JacksonUtil.parseArrayOrThrow(bytes, model.elementTypeRef());
+    }
+
+    /*==================  进阶功能  ==================*/
+
+    @Benchmark
+    public Object cloneClass() {
+        return JacksonUtil.cloneOrThrow(source, model.arrayType());
+    }
+
+    @Benchmark
+    public Object cloneTypeRef() {
+        return JacksonUtil.cloneOrThrow(source, model.listTypeRef());
+    }
+
+    @Benchmark
+    public Object convertClass() {
+        return JacksonUtil.convertOrThrow(source, model.arrayType());
+    }
+
+    @Benchmark
+    public Object convertTypeRef() {
+        return JacksonUtil.convertOrThrow(source, model.listTypeRef());
+    }
+
+    @Benchmark
+    public List<Object> convertListClass() {
+        return JacksonUtil.convertListOrThrow(sourceMaps, model.elementType());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> convertListTypeRef() {
+        return JacksonUtil.convertListOrThrow(sourceList, MAP_TYPE);
+    }
+
+    @Benchmark
+    public List<Object> update() {
+        return JacksonUtil.updateOrThrow(json, new ArrayList<>());
+    }
+
+    @Benchmark
+    public JsonNode parseTree() {
+        return JacksonUtil.parseTreeOrThrow(json);
+    }
+}
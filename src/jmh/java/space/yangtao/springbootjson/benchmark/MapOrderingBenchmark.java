@@ -0,0 +1,126 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.module.MapOrderingModule;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map 按key排序输出：ORDER_MAP_ENTRIES_BY_KEYS 原生 TreeMap 拷贝与 MapOrderingModule 的对比
+ *
+ * @author yangtao
+ * @since 2025/8/5 14:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapOrderingBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    /**
+     * 属性袋的实现：HASH 无序、LINKED 已按key顺序写入、TREE 本身有序
+     */
+    @Param({"HASH", "LINKED", "TREE"})
+    public String shape;
+
+    private ObjectMapper treeMapMapper;
+    private ObjectMapper orderingMapper;
+    private ObjectMapper unorderedMapper;
+    private Item[] items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        treeMapMapper = new ObjectMapper().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        orderingMapper = new ObjectMapper().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .registerModule(new MapOrderingModule());
+        unorderedMapper = new ObjectMapper();
+
+        items = new Item[payload.size()];
+        for (int i = 0; i < items.length; i++) {
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put("color", "red");
+            attributes.put("size", i % 5);
+            attributes.put("brand", "b" + i % 17);
+            attributes.put("weight", i * 10);
+            attributes.put("origin", "CN");
+            attributes.put("material", "cotton");
+            attributes.put("season", "summer");
+            attributes.put("discount", i % 3 == 0);
+            Map<String, Object> extra = new HashMap<>();
+            extra.put("tag", "t" + i);
+            extra.put("channel", "web");
+            extra.put("score", i % 100);
+            items[i] = new Item(i, reshape(attributes), reshape(extra));
+        }
+    }
+
+    @Benchmark
+    public byte[] treeMapCopy() throws IOException {
+        return treeMapMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] orderingModule() throws IOException {
+        return orderingMapper.writeValueAsBytes(items);
+    }
+
+    /**
+     * 不排序的下限
+     */
+    @Benchmark
+    public byte[] unordered() throws IOException {
+        return unorderedMapper.writeValueAsBytes(items);
+    }
+
+    private Map<String, Object> reshape(Map<String, Object> map) {
+        switch (shape) {
+            case "LINKED":
+                return new LinkedHashMap<>(new TreeMap<>(map));
+            case "TREE":
+                return new TreeMap<>(map);
+            default:
+                return map;
+        }
+    }
+
+    public static class Item {
+
+        public long id;
+
+        public Map<String, Object> attributes;
+
+        public Map<String, Object> extra;
+
+        public Item() {
+        }
+
+        Item(long id, Map<String, Object> attributes, Map<String, Object> extra) {
+            this.id = id;
+            this.attributes = attributes;
+            this.extra = extra;
+        }
+    }
+}
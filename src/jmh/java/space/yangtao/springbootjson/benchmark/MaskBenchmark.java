@@ -0,0 +1,100 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.mask.Mask;
+import space.yangtao.springbootjson.mask.MaskStrategy;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 手机号脱敏：@Mask 字符缓冲区实现与旧版 replaceAll 正则实现的对比
+ *
+ * @author yangtao
+ * @since 2025/7/31 14:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    private ObjectMapper mapper;
+    private RegexContact[] regex;
+    private MaskedContact[] masked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = JacksonUtilBootstrap.init();
+        int size = payload.size();
+        regex = new RegexContact[size];
+        masked = new MaskedContact[size];
+        for (int i = 0; i < size; i++) {
+            String phone = String.valueOf(13_500_000_000L + i);
+            regex[i] = new RegexContact(phone);
+            masked[i] = new MaskedContact(phone);
+        }
+    }
+
+    @Benchmark
+    public byte[] regex() throws IOException {
+        return mapper.writeValueAsBytes(regex);
+    }
+
+    @Benchmark
+    public byte[] mask() throws IOException {
+        return mapper.writeValueAsBytes(masked);
+    }
+
+    public static class RegexContact {
+
+        @JsonSerialize(using = RegexPhoneSerializer.class)
+        public final String phone;
+
+        RegexContact(String phone) {
+            this.phone = phone;
+        }
+    }
+
+    public static class MaskedContact {
+
+        @Mask(strategy = MaskStrategy.PHONE)
+        public final String phone;
+
+        MaskedContact(String phone) {
+            this.phone = phone;
+        }
+    }
+
+    /**
+     * 旧版 PhoneNumberSerializer 的实现
+     */
+    public static class RegexPhoneSerializer extends JsonSerializer<String> {
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(value.replaceAll("(\\d{3})(\\d{4})(\\d{4})", "$1****$3"));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package space.yangtao.springbootjson.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.utils.JacksonResult;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 统计开启与关闭时单次调用的耗时差，取单个对象使每次调用的固定开销占比最大
+ *
+ * @author yangtao
+ * @since 2025/8/10 15:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    @Param({"true", "false"})
+    public boolean enabled;
+
+    private Object user;
+    private String json;
+    private Class<?> type;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JacksonUtilBootstrap.init();
+        JacksonUtil.getMetrics().setEnabled(enabled);
+        JacksonUtil.getMetrics().reset();
+        user = BenchmarkData.Model.FIXTURE_USER.create(1)[0];
+        type = user.getClass();
+        json = JacksonUtil.toJsonStringOrThrow(user);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return JacksonUtil.toJsonStringOrThrow(user);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return JacksonUtil.parseObjectOrThrow(json, type);
+    }
+
+    @Benchmark
+    public JacksonResult<?> tryParse() {
+        return JacksonUtil.tryParseObject(json, type);
+    }
+}
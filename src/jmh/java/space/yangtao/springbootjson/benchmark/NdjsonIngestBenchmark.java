@@ -0,0 +1,89 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+import space.yangtao.springbootjson.utils.NdjsonReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NDJSON 读取：单线程 MappingIterator 逐行读取，与 NdjsonReader 按不同并行度分块解析的对比
+ *
+ * @author yangtao
+ * @since 2025/8/8 16:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NdjsonIngestBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"1", "2", "4"})
+    public int parallelism;
+
+    private byte[] ndjson;
+    private ObjectReader sequential;
+    private ForkJoinPool pool;
+    private NdjsonReader<Object> reader;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ObjectMapper mapper = JacksonUtilBootstrap.init();
+        BenchmarkData.Model model = BenchmarkData.Model.DOMAIN_USER;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtil.writeNdjson(Arrays.asList(model.create(payload.size())).iterator(), out);
+        ndjson = out.toByteArray();
+        sequential = mapper.readerFor(model.elementType());
+        pool = new ForkJoinPool(parallelism);
+        // 分块取 64KB，使 MEDIUM 规模也能切出多个分块
+        reader = ((NdjsonReader<Object>) JacksonUtil.ndjsonReader(model.elementType()))
+                .withPool(pool).withChunkSize(64 * 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) throws IOException {
+        try (MappingIterator<Object> it = sequential.readValues(ndjson)) {
+            while (it.hasNext()) {
+                blackhole.consume(it.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public long parallel(Blackhole blackhole) {
+        return reader.read(new ByteArrayInputStream(ndjson), blackhole::consume);
+    }
+}
@@ -0,0 +1,111 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.module.NumberAsStringModule;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long 精度保护：ToStringSerializer 与 NumberAsStringModule（ALWAYS / JS_SAFE）的对比
+ *
+ * @author yangtao
+ * @since 2025/8/2 15:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumberBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    private ObjectMapper toStringMapper;
+    private ObjectMapper alwaysMapper;
+    private ObjectMapper jsSafeMapper;
+    private Order[] orders;
+    private byte[] quoted;
+    private byte[] plain;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SimpleModule toString = new SimpleModule();
+        toString.addSerializer(Long.class, ToStringSerializer.instance);
+        toString.addSerializer(Long.TYPE, ToStringSerializer.instance);
+        toStringMapper = new ObjectMapper().registerModule(toString);
+        alwaysMapper = new ObjectMapper().registerModule(new NumberAsStringModule(NumberAsStringModule.Mode.ALWAYS));
+        jsSafeMapper = new ObjectMapper().registerModule(new NumberAsStringModule(NumberAsStringModule.Mode.JS_SAFE));
+
+        orders = new Order[payload.size()];
+        for (int i = 0; i < orders.length; i++) {
+            orders[i] = new Order(1_000_000_000L + i, 100_000L + i, 1_700_000_000_000L + i * 1000L);
+        }
+        quoted = alwaysMapper.writeValueAsBytes(orders);
+        plain = new ObjectMapper().writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] writeToString() throws IOException {
+        return toStringMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] writeAlways() throws IOException {
+        return alwaysMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] writeJsSafe() throws IOException {
+        return jsSafeMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public Order[] readQuotedDefault() throws IOException {
+        return toStringMapper.readValue(quoted, Order[].class);
+    }
+
+    @Benchmark
+    public Order[] readQuoted() throws IOException {
+        return alwaysMapper.readValue(quoted, Order[].class);
+    }
+
+    @Benchmark
+    public Order[] readPlain() throws IOException {
+        return alwaysMapper.readValue(plain, Order[].class);
+    }
+
+    public static class Order {
+
+        public long id;
+
+        public Long userId;
+
+        public long createdAt;
+
+        public Order() {
+        }
+
+        Order(long id, Long userId, long createdAt) {
+            this.id = id;
+            this.userId = userId;
+            this.createdAt = createdAt;
+        }
+    }
+}
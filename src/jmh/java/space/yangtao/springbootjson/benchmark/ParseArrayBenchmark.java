@@ -0,0 +1,79 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * parseArray(json, TypeReference) 单次绑定与旧版“先解析为 List&lt;Map&gt; 再逐个 convertValue”的对比
+ *
+ * @author yangtao
+ * @since 2025/7/29 09:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseArrayBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"FIXTURE_USER", "DOMAIN_USER", "ANIMAL"})
+    public BenchmarkData.Model model;
+
+    private ObjectMapper mapper;
+    private TypeReference<Object> typeRef;
+    private String json;
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = JacksonUtilBootstrap.init();
+        typeRef = model.elementTypeRef();
+        json = JacksonUtil.toJsonStringOrThrow(model.create(size));
+        bytes = JacksonUtil.toJsonBytesOrThrow(model.create(size));
+    }
+
+    @Benchmark
+    public List<Object> twoPassString() throws IOException {
+        List<?> tmp = mapper.readValue(json, List.class);
+        return tmp.stream().map(item -> mapper.convertValue(item, typeRef)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Object> singlePassString() {
+        return JacksonUtil.parseArrayOrThrow(json, typeRef);
+    }
+
+    @Benchmark
+    public List<Object> twoPassBytes() throws IOException {
+        List<?> tmp = mapper.readValue(bytes, List.class);
+        return tmp.stream().map(item -> mapper.convertValue(item, typeRef)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Object> singlePassBytes() {
+        return JacksonUtil.parseArrayOrThrow(bytes, typeRef);
+    }
+}
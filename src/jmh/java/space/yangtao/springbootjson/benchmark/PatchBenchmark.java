@@ -0,0 +1,106 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.test.JacksonUtilTest;
+import space.yangtao.springbootjson.utils.JacksonResult;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+import space.yangtao.springbootjson.utils.JsonPatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 直接在对象上应用 JSON Patch / Merge Patch 与先转为树模型、修改后再转回的对比；补丁均为幂等操作，可在同一对象上重复应用
+ *
+ * @author yangtao
+ * @since 2025/8/12 15:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatchBenchmark {
+
+    private static final String PATCH = "[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"lisi\"},"
+            + "{\"op\":\"test\",\"path\":\"/name\",\"value\":\"lisi\"},"
+            + "{\"op\":\"replace\",\"path\":\"/age\",\"value\":30},"
+            + "{\"op\":\"replace\",\"path\":\"/birthday\",\"value\":\"2000-01-01\"},"
+            + "{\"op\":\"replace\",\"path\":\"/attributes/name\",\"value\":\"wangwu\"}]";
+
+    private static final String MERGE = "{\"name\":\"lisi\",\"age\":30,\"birthday\":\"2000-01-01\","
+            + "\"attributes\":{\"name\":\"wangwu\"}}";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private ObjectMapper mapper;
+    private JacksonUtilTest.User user;
+    private List<JacksonUtilTest.User> users;
+    private JsonPatch patch;
+    private JsonNode merge;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = JacksonUtilBootstrap.init();
+        user = (JacksonUtilTest.User) BenchmarkData.Model.FIXTURE_USER.create(1)[0];
+        users = new ArrayList<>(Arrays.asList((JacksonUtilTest.User[]) BenchmarkData.Model.FIXTURE_USER.create(BATCH_SIZE)));
+        patch = JacksonUtil.parsePatchOrThrow(PATCH);
+        merge = JacksonUtil.parseTreeOrThrow(MERGE);
+    }
+
+    @Benchmark
+    public Object patchObject() {
+        return JacksonUtil.applyPatchOrThrow(patch, user);
+    }
+
+    @Benchmark
+    public Object patchViaTree() throws Exception {
+        JsonNode tree = mapper.valueToTree(user);
+        return mapper.treeToValue(JacksonUtil.applyPatchOrThrow(patch, tree), JacksonUtilTest.User.class);
+    }
+
+    @Benchmark
+    public Object mergeObject() {
+        return JacksonUtil.mergePatchOrThrow(merge, user);
+    }
+
+    @Benchmark
+    public Object mergeViaTree() throws Exception {
+        JsonNode tree = mapper.valueToTree(user);
+        return mapper.treeToValue(JacksonUtil.mergePatchOrThrow(merge, tree), JacksonUtilTest.User.class);
+    }
+
+    @Benchmark
+    public Object updateReader() {
+        return JacksonUtil.updateOrThrow(MERGE, user);
+    }
+
+    @Benchmark
+    public List<JacksonResult<JacksonUtilTest.User>> patchAll() {
+        return JacksonUtil.applyPatchAll(users, patch);
+    }
+
+    @Benchmark
+    public Object patchEach() {
+        for (JacksonUtilTest.User item : users) {
+            JacksonUtil.applyPatchOrThrow(patch, item);
+        }
+        return users;
+    }
+}
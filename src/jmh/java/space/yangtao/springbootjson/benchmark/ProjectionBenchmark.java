@@ -0,0 +1,71 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 全量输出、缓存的投影写出器与每次请求新建 SimpleBeanPropertyFilter 写出器的对比（domain.User 声明了 @JsonFilter）
+ *
+ * @author yangtao
+ * @since 2025/8/11 14:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private static final String FIELDS = "id,name,age,phoneNumber";
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    private ObjectMapper mapper;
+    private List<Object> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = JacksonUtilBootstrap.init();
+        users = Arrays.asList(BenchmarkData.Model.DOMAIN_USER.create(payload.size()));
+    }
+
+    @Benchmark
+    public byte[] full() {
+        return JacksonUtil.toJsonBytesOrThrow(users);
+    }
+
+    @Benchmark
+    public byte[] projected() {
+        return JacksonUtil.toJsonBytesOrThrow(users, FIELDS);
+    }
+
+    @Benchmark
+    public byte[] filterPerRequest() throws JsonProcessingException {
+        SimpleFilterProvider filters = new SimpleFilterProvider().addFilter("userFilter",
+                SimpleBeanPropertyFilter.filterOutAllExcept(new HashSet<>(Arrays.asList(FIELDS.split(",")))));
+        return mapper.writer(filters).writeValueAsBytes(users);
+    }
+}
@@ -0,0 +1,71 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * isValidJson：流式token校验与旧版“readTree 构建整棵树”的对比
+ *
+ * @author yangtao
+ * @since 2025/7/30 17:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidateBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"FIXTURE_USER", "DOMAIN_USER"})
+    public BenchmarkData.Model model;
+
+    private ObjectMapper mapper;
+    private String json;
+    private String invalid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = JacksonUtilBootstrap.init();
+        json = JacksonUtil.toJsonStringOrThrow(model.create(payload.size()));
+        invalid = json.substring(0, json.length() - 1);
+    }
+
+    @Benchmark
+    public boolean readTree() {
+        try {
+            mapper.readTree(json);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean tokenWalk() {
+        return JacksonUtil.isValidJson(json);
+    }
+
+    @Benchmark
+    public boolean tokenWalkInvalid() {
+        return JacksonUtil.isValidJson(invalid);
+    }
+}
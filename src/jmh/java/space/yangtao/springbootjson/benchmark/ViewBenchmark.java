@@ -0,0 +1,65 @@
+package space.yangtao.springbootjson.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.yangtao.springbootjson.config.Views;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每次请求 writerWithView（序列化时逐个属性判断视图）与按视图预先构建的写出器的对比
+ *
+ * @author yangtao
+ * @since 2025/8/11 17:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    @Param({"PUBLIC", "INTERNAL"})
+    public String view;
+
+    private Class<?> viewType;
+    private ObjectWriter dynamic;
+    private List<Object> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dynamic = JacksonUtilBootstrap.init().writer();
+        viewType = "PUBLIC".equals(view) ? Views.Public.class : Views.Internal.class;
+        users = Arrays.asList(BenchmarkData.Model.DOMAIN_USER.create(payload.size()));
+    }
+
+    @Benchmark
+    public byte[] writerWithView() throws JsonProcessingException {
+        return dynamic.withView(viewType).writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] precomputedView() {
+        return JacksonUtil.toJsonBytesWithViewOrThrow(users, viewType);
+    }
+}
@@ -0,0 +1,89 @@
+package space.yangtao.springbootjson.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.JacksonUtilBootstrap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 先序列化为字节数组再复制，与 writeTo 直接写入调用方输出流 / 直接内存缓冲区的对比
+ *
+ * @author yangtao
+ * @since 2025/8/7 16:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteToBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public BenchmarkData.Payload payload;
+
+    private Object[] users;
+    private ByteBuffer direct;
+    private OutputStream discard;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JacksonUtilBootstrap.init();
+        users = BenchmarkData.Model.FIXTURE_USER.create(payload.size());
+        direct = ByteBuffer.allocateDirect(JacksonUtil.toJsonBytesOrThrow(users).length * 2);
+    }
+
+    @Setup(Level.Trial)
+    public void setUpSink(Blackhole blackhole) {
+        discard = new OutputStream() {
+            @Override
+            public void write(int b) {
+                blackhole.consume(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                blackhole.consume(len);
+            }
+        };
+    }
+
+    @Benchmark
+    public int bytesThenCopyToBuffer() {
+        direct.clear();
+        direct.put(JacksonUtil.toJsonBytesOrThrow(users));
+        return direct.position();
+    }
+
+    @Benchmark
+    public int writeToBuffer() {
+        direct.clear();
+        return JacksonUtil.writeToBounded(users, direct);
+    }
+
+    @Benchmark
+    public void bytesThenWriteToStream() throws IOException {
+        discard.write(JacksonUtil.toJsonBytesOrThrow(users));
+    }
+
+    @Benchmark
+    public void writeToStream() {
+        JacksonUtil.writeTo(users, discard);
+    }
+}
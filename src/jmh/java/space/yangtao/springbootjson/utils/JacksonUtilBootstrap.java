@@ -0,0 +1,28 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import space.yangtao.springbootjson.config.JacksonConfig;
+
+/**
+ * 脱离 Spring 容器初始化 JacksonUtil（仅供基准测试使用）
+ *
+ * @author yangtao
+ * @since 2025/7/28 10:12
+ */
+public final class JacksonUtilBootstrap {
+
+    private JacksonUtilBootstrap() {
+    }
+
+    /**
+     * 使用 JacksonConfig 的配置创建 ObjectMapper（含 Smile / CBOR）并注入 JacksonUtil，返回JSON格式的 ObjectMapper
+     */
+    public static ObjectMapper init() {
+        JacksonConfig config = new JacksonConfig();
+        ObjectMapper mapper = config.objectMapper();
+        ObjectMapper smileMapper = config.smileMapper();
+        ObjectMapper cborMapper = config.cborMapper();
+        new JacksonUtil.JacksonUtilInitializer(mapper, smileMapper, cborMapper).afterPropertiesSet();
+        return mapper;
+    }
+}
@@ -16,14 +16,15 @@ import java.util.List;
  */
 public class EncryptedPhoneModifier extends BeanSerializerModifier {
 
+    private static final EncryptedPhoneSerializer SERIALIZER = new EncryptedPhoneSerializer();
+
     @Override
     public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
                                                      BeanDescription beanDesc,
                                                      List<BeanPropertyWriter> beanProperties) {
         for (BeanPropertyWriter writer : beanProperties) {
             if (writer.getType().getRawClass() == EncryptedPhone.class) {
-                EncryptedPhoneSerializer encryptedPhoneSerializer = new EncryptedPhoneSerializer();
-                writer.assignSerializer((JsonSerializer) encryptedPhoneSerializer);
+                writer.assignSerializer((JsonSerializer) SERIALIZER);
             }
         }
         return beanProperties;
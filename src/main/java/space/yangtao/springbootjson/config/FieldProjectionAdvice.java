@@ -0,0 +1,70 @@
+package space.yangtao.springbootjson.config;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.ProjectedValue;
+import space.yangtao.springbootjson.utils.ViewedValue;
+
+/**
+ * 请求带有 fields 参数（如 {@code ?fields=id,name,phone}）时，响应体只输出列出的属性
+ * <p>
+ * 投影写出器按（类型, 字段列表）缓存，见 {@link JacksonUtil#project}。
+ * 控制器方法上的 @JsonView、返回的 MappingJacksonValue 中的视图以及 {@link RoleJsonViewAdvice} 选择的视图
+ * 同样作用于投影，不会因为投影多输出字段。
+ * 返回 Stream 的方法不经过这里，由 {@link StreamReturnValueHandler} 读取同一个参数逐个元素投影。
+ *
+ * @author yangtao
+ * @since 2025/8/11 11:20
+ */
+@Order(2)
+@RestControllerAdvice
+public class FieldProjectionAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * 字段列表的请求参数名
+     */
+    @Value("${jackson.projection.parameter:fields}")
+    private String parameter = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || body instanceof ProjectedValue || !(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+        String fields = ((ServletServerHttpRequest) request).getServletRequest().getParameter(parameter);
+        if (!StringUtils.hasText(fields)) {
+            return body;
+        }
+        if (body instanceof ViewedValue) {
+            ViewedValue viewed = (ViewedValue) body;
+            return JacksonUtil.project(viewed.getValue(), fields, viewed.getView());
+        }
+        if (body instanceof MappingJacksonValue) {
+            MappingJacksonValue container = (MappingJacksonValue) body;
+            container.setValue(JacksonUtil.project(container.getValue(), fields, container.getSerializationView()));
+            return container;
+        }
+        JsonView view = returnType.getMethodAnnotation(JsonView.class);
+        return JacksonUtil.project(body, fields, view == null || view.value().length == 0 ? null : view.value()[0]);
+    }
+}
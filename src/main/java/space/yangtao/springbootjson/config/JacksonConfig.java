@@ -6,26 +6,36 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.ClassUtils;
+import space.yangtao.springbootjson.module.DateTimeCodecModule;
+import space.yangtao.springbootjson.module.EnumCodecModule;
+import space.yangtao.springbootjson.module.FastAccessorModule;
+import space.yangtao.springbootjson.module.MapOrderingModule;
+import space.yangtao.springbootjson.module.NumberAsStringModule;
 
-import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SimpleTimeZone;
 
 /**
@@ -37,11 +47,70 @@ import java.util.SimpleTimeZone;
 @Configuration
 public class JacksonConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(JacksonConfig.class);
+
+    /**
+     * 数值输出模式：ALWAYS（默认）或 JS_SAFE
+     */
+    @Value("${jackson.number-mode:ALWAYS}")
+    private NumberAsStringModule.Mode numberMode = NumberAsStringModule.Mode.ALWAYS;
+
+    /**
+     * 是否启用字节码属性访问（Afterburner），默认使用反射
+     */
+    @Value("${jackson.fast-accessor.enabled:false}")
+    private boolean fastAccessor;
+
+    /**
+     * 启用字节码属性访问时参与启动自检的包
+     */
+    @Value("${jackson.fast-accessor.self-check-packages:space.yangtao.springbootjson.domain}")
+    private String[] selfCheckPackages = {"space.yangtao.springbootjson.domain"};
+
     @Bean("JacksonConfigObjectMapper")
     @Primary
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        return configure(new ObjectMapper());
+    }
+
+    /**
+     * Smile 二进制格式，配置与 {@link #objectMapper()} 相同
+     */
+    @Bean("JacksonConfigSmileMapper")
+    public ObjectMapper smileMapper() {
+        return configure(new ObjectMapper(new SmileFactory()));
+    }
+
+    /**
+     * CBOR 二进制格式，配置与 {@link #objectMapper()} 相同
+     */
+    @Bean("JacksonConfigCborMapper")
+    public ObjectMapper cborMapper() {
+        return configure(new ObjectMapper(new CBORFactory()));
+    }
+
+    /**
+     * 按 Accept / Content-Type 协商 application/x-jackson-smile，替换 Spring MVC 默认的 Smile 转换器
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            @Qualifier("JacksonConfigSmileMapper") ObjectMapper smileMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+    }
 
+    /**
+     * 按 Accept / Content-Type 协商 application/cbor，替换 Spring MVC 默认的 CBOR 转换器
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            @Qualifier("JacksonConfigCborMapper") ObjectMapper cborMapper) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
+    /**
+     * 各数据格式共用的 ObjectMapper 配置
+     */
+    private ObjectMapper configure(ObjectMapper mapper) {
         // 忽略null值及空对象
         mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
@@ -56,28 +125,31 @@ public class JacksonConfig {
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         mapper.setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"));
         mapper.setTimeZone(SimpleTimeZone.getTimeZone("Asia/Shanghai"));
-        JavaTimeModule dateTimeModel = new JavaTimeModule();
-        dateTimeModel.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        dateTimeModel.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        dateTimeModel.addSerializer(LocalDate.class, new LocalDateSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        dateTimeModel.addDeserializer(LocalDate.class, new LocalDateDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        dateTimeModel.addSerializer(LocalTime.class, new LocalTimeSerializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
-        dateTimeModel.addDeserializer(LocalTime.class, new LocalTimeDeserializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
-        mapper.registerModule(dateTimeModel);
+        mapper.registerModule(new JavaTimeModule());
+        // Date / LocalDateTime / LocalDate / LocalTime 固定格式的快速编解码，须在 JavaTimeModule 之后注册
+        mapper.registerModule(new DateTimeCodecModule(ZoneId.of("Asia/Shanghai")));
         mapper.registerModule(new Jdk8Module());
 
-        // 精度保护
-        SimpleModule simpleModule = new SimpleModule();
-        simpleModule.addSerializer(Long.class, ToStringSerializer.instance);
-        simpleModule.addSerializer(Long.TYPE, ToStringSerializer.instance);
-        simpleModule.addSerializer(BigDecimal.class, ToStringSerializer.instance);
-        mapper.registerModule(simpleModule);
+        // 枚举编码（@EnumCodec）
+        mapper.registerModule(new EnumCodecModule());
+
+        // 精度保护（Long、BigDecimal 输出为字符串，JS_SAFE 模式下安全范围内的 Long 仍输出为数字）
+        mapper.registerModule(new NumberAsStringModule(numberMode));
 
-        // 顺序序列化Map
+        // 数据脱敏（@Mask）
+        SimpleModule maskModule = new SimpleModule();
+        maskModule.setSerializerModifier(new MaskSerializerModifier());
+        mapper.registerModule(maskModule);
+
+        // 顺序序列化Map：由 MapOrderingModule 免去 TreeMap 拷贝，可用 @SortMapKeys 按类型或属性覆盖
         mapper.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        mapper.registerModule(new MapOrderingModule());
         // char数组作为JSON数组序列化
         mapper.enable(SerializationFeature.WRITE_CHAR_ARRAYS_AS_JSON_ARRAYS);
 
+        // @JsonFilter：未单独配置的过滤器 ID 输出全部属性（按需投影见 JacksonUtil.project / ?fields= 参数）
+        mapper.setFilterProvider(new SimpleFilterProvider().setFailOnUnknownId(false));
+
         // 启用注解以及自动检测字段
         mapper.enable(MapperFeature.AUTO_DETECT_FIELDS);
         mapper.enable(MapperFeature.AUTO_DETECT_GETTERS);
@@ -85,7 +157,52 @@ public class JacksonConfig {
         mapper.enable(MapperFeature.AUTO_DETECT_SETTERS);
         mapper.enable(MapperFeature.USE_ANNOTATIONS);
 
+        // 字节码属性访问，须在其余配置完成后注册并自检
+        if (fastAccessor) {
+            registerFastAccessor(mapper);
+        }
+
         return mapper;
     }
 
+    /**
+     * 注册 FastAccessorModule，并对自检包下的类与反射方式做往返对比，不一致的类回退为反射访问
+     */
+    private void registerFastAccessor(ObjectMapper mapper) {
+        ObjectMapper reference = mapper.copy();
+        FastAccessorModule module = new FastAccessorModule();
+        mapper.registerModule(module);
+        List<Class<?>> types = scanTypes(selfCheckPackages, false);
+        List<Class<?>> failed = module.selfCheck(mapper.copy(), reference, types);
+        log.info("{} 已启用字节码属性访问，自检 {} 个类，回退为反射访问：{}",
+                mapper.getFactory().getFormatName(), types.size(), failed);
+    }
+
+    /**
+     * 扫描包下的类（含静态嵌套类，不含注解类型）；includeAbstract 为 false 时只保留具体类
+     */
+    static List<Class<?>> scanTypes(String[] packages, boolean includeAbstract) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                AnnotationMetadata metadata = definition.getMetadata();
+                return metadata.isIndependent() && !metadata.isAnnotation()
+                        && (includeAbstract || metadata.isConcrete());
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+        ClassLoader classLoader = JacksonConfig.class.getClassLoader();
+        List<Class<?>> types = new ArrayList<>();
+        for (String pkg : packages) {
+            for (BeanDefinition definition : scanner.findCandidateComponents(pkg.trim())) {
+                try {
+                    types.add(ClassUtils.forName(definition.getBeanClassName(), classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.warn("扫描 {} 时无法加载 {}：{}", pkg, definition.getBeanClassName(), e.toString());
+                }
+            }
+        }
+        return types;
+    }
+
 }
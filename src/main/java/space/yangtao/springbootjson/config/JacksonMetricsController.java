@@ -0,0 +1,52 @@
+package space.yangtao.springbootjson.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import space.yangtao.springbootjson.utils.JacksonMetrics;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 查看 JacksonUtil 按（操作, 目标类型）统计的耗时与字节数
+ * <p>
+ * GET 返回全部统计项（按总耗时降序）以及总耗时、总字节数最高的前 top 项；DELETE 清零；
+ * PUT enabled 开关统计。接口本身不做认证，默认不注册；设置 jackson.util.metrics.endpoint-enabled=true 才注册，
+ * 开启时须由网关或安全配置限制访问。
+ *
+ * @author yangtao
+ * @since 2025/8/10 14:30
+ */
+@RestController
+@RequestMapping("/jackson/metrics")
+@ConditionalOnProperty(prefix = "jackson.util.metrics", name = "endpoint-enabled")
+public class JacksonMetricsController {
+
+    @GetMapping
+    public Map<String, Object> metrics(@RequestParam(defaultValue = "10") int top) {
+        JacksonMetrics metrics = JacksonUtil.getMetrics();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", metrics.isEnabled());
+        body.put("slowest", metrics.topByTime(top));
+        body.put("largest", metrics.topByBytes(top));
+        body.put("entries", metrics.snapshot());
+        return body;
+    }
+
+    @DeleteMapping
+    public void reset() {
+        JacksonUtil.getMetrics().reset();
+    }
+
+    @PutMapping("/enabled")
+    public boolean enable(@RequestParam boolean value) {
+        JacksonUtil.getMetrics().setEnabled(value);
+        return value;
+    }
+}
@@ -0,0 +1,93 @@
+package space.yangtao.springbootjson.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 启动预热：扫描配置的包，并行地为其中的类预先构建序列化器与反序列化器（见 {@link JacksonUtil#warmUp}）
+ * <p>
+ * 在所有单例创建完成后同步执行，此时内嵌 Web 服务器尚未开始监听、就绪状态尚未变为 ACCEPTING_TRAFFIC，
+ * 预热结束前不会有请求进入。单个类预热失败只记录日志，不影响启动。
+ *
+ * @author yangtao
+ * @since 2025/8/10 16:40
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "jackson.warm-up", name = "enabled", matchIfMissing = true)
+public class JacksonWarmUpConfig implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(JacksonWarmUpConfig.class);
+
+    /**
+     * 参与预热的包
+     */
+    @Value("${jackson.warm-up.packages:space.yangtao.springbootjson.domain}")
+    private String[] packages = {"space.yangtao.springbootjson.domain"};
+
+    /**
+     * 预热线程数，小于等于0时取 CPU 核数
+     */
+    @Value("${jackson.warm-up.parallelism:0}")
+    private int parallelism;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        List<Class<?>> types = JacksonConfig.scanTypes(packages, true);
+        if (types.isEmpty()) {
+            return;
+        }
+        int threads = Math.min(types.size(),
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        ExecutorService pool = Executors.newFixedThreadPool(threads, newThreadFactory());
+        try {
+            List<Future<Long>> timings = new ArrayList<>(types.size());
+            for (Class<?> type : types) {
+                timings.add(pool.submit(() -> {
+                    long begin = System.nanoTime();
+                    JacksonUtil.warmUp(type);
+                    return System.nanoTime() - begin;
+                }));
+            }
+            for (int i = 0; i < types.size(); i++) {
+                try {
+                    log.info("预热 {} 耗时 {} ms", types.get(i).getName(),
+                            TimeUnit.NANOSECONDS.toMillis(timings.get(i).get()));
+                } catch (ExecutionException e) {
+                    log.warn("预热 {} 失败：{}", types.get(i).getName(), e.getCause().toString());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("预热被中断");
+        } finally {
+            pool.shutdownNow();
+        }
+        log.info("Jackson 预热完成，{} 个类，{} 个线程，共耗时 {} ms", types.size(), threads,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "jackson-warm-up-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package space.yangtao.springbootjson.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import space.yangtao.springbootjson.domain.EncryptedPhone;
+import space.yangtao.springbootjson.mask.Mask;
+import space.yangtao.springbootjson.mask.MaskSerializer;
+import space.yangtao.springbootjson.mask.MaskStrategy;
+import space.yangtao.springbootjson.serializer.EncryptedPhoneSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 为标注了 {@link Mask} 的 String 属性指定脱敏序列化器；EncryptedPhone 属性对其 originalNum 脱敏后输出为字符串
+ * <p>
+ * 只在构建 BeanSerializer 时执行一次，序列化器为各策略共享的单例。
+ * 属性同时用 @JsonSerialize(using = ...) 指定了序列化器时保留该序列化器，对其输出的标量（字符串、数值、布尔）脱敏后
+ * 以字符串输出；输出对象或数组时原样写出。
+ *
+ * @author yangtao
+ * @since 2025/7/31 11:05
+ */
+public class MaskSerializerModifier extends BeanSerializerModifier {
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                     BeanDescription beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        for (int i = 0; i < beanProperties.size(); i++) {
+            BeanPropertyWriter writer = beanProperties.get(i);
+            Mask mask = writer.getAnnotation(Mask.class);
+            if (mask == null) {
+                continue;
+            }
+            if (writer.hasSerializer()) {
+                // 已指定的序列化器不能再次 assignSerializer，换成持有包装序列化器的副本
+                beanProperties.set(i, new MaskedWriter(writer,
+                        new MaskedOutputSerializer(writer.getSerializer(), mask.strategy())));
+                continue;
+            }
+            Class<?> type = writer.getType().getRawClass();
+            if (type == String.class) {
+                writer.assignSerializer((JsonSerializer) MaskSerializer.of(mask.strategy()));
+            } else if (type == EncryptedPhone.class) {
+                writer.assignSerializer((JsonSerializer) new EncryptedPhoneSerializer(mask.strategy()));
+            }
+        }
+        return beanProperties;
+    }
+
+    private static final class MaskedWriter extends BeanPropertyWriter {
+
+        private static final long serialVersionUID = 1L;
+
+        MaskedWriter(BeanPropertyWriter base, JsonSerializer<Object> serializer) {
+            super(base);
+            _serializer = serializer;
+        }
+    }
+
+    /**
+     * 先按属性原有的序列化器写入缓冲区，再对标量结果脱敏
+     */
+    private static final class MaskedOutputSerializer extends StdSerializer<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JsonSerializer<Object> delegate;
+
+        private final MaskSerializer mask;
+
+        MaskedOutputSerializer(JsonSerializer<Object> delegate, MaskStrategy strategy) {
+            super(Object.class);
+            this.delegate = delegate;
+            this.mask = MaskSerializer.of(strategy);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            TokenBuffer buffer = provider.bufferForValueConversion(gen.getCodec());
+            delegate.serialize(value, buffer, provider);
+            try (JsonParser parser = buffer.asParser()) {
+                JsonToken token = parser.nextToken();
+                if (token != null && token.isScalarValue() && token != JsonToken.VALUE_NULL
+                        && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                    mask.serialize(parser.getText(), gen, provider);
+                } else {
+                    gen.copyCurrentStructure(parser);
+                }
+            }
+        }
+    }
+}
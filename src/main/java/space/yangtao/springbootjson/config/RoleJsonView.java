@@ -0,0 +1,21 @@
+package space.yangtao.springbootjson.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标注在控制器方法或控制器类上：响应体按调用方角色选择 @JsonView 视图输出，由 {@link RoleJsonViewAdvice} 处理
+ * <p>
+ * 角色与视图的对应关系见 {@link RoleViewPolicy}；方法上显式的 @JsonView 或返回 MappingJacksonValue 时以其为准。
+ *
+ * @author yangtao
+ * @since 2025/8/11 17:00
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RoleJsonView {
+}
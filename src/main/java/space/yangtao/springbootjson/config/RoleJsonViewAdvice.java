@@ -0,0 +1,68 @@
+package space.yangtao.springbootjson.config;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+import space.yangtao.springbootjson.utils.ViewedValue;
+
+/**
+ * 处理 {@link RoleJsonView}：按调用方角色选择视图，交给该视图预先构建的写出器输出（见 {@link JacksonUtil#withView}）
+ * <p>
+ * 角色取自容器认证的结果（HttpServletRequest#isUserInRole），未认证的请求使用默认视图；
+ * 只有显式开启 {@link RoleViewPolicy#isTrustRoleHeader()} 时，未认证的请求才从配置的请求头读取角色。
+ * 与 Spring 自带的 @JsonView 处理不同，视图可见的属性在序列化器构造时就已确定，请求之间不再重复判断。
+ * 先于 {@link FieldProjectionAdvice} 执行，两者可以同时使用；返回 Stream 的方法由 {@link StreamReturnValueHandler} 按同样的规则选择视图。
+ *
+ * @author yangtao
+ * @since 2025/8/11 17:10
+ */
+@Order(1)
+@RestControllerAdvice
+@EnableConfigurationProperties(RoleViewPolicy.class)
+public class RoleJsonViewAdvice implements ResponseBodyAdvice<Object> {
+
+    private final RoleViewPolicy policy;
+
+    public RoleJsonViewAdvice(RoleViewPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                && !returnType.hasMethodAnnotation(JsonView.class)
+                && isAnnotated(returnType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || body instanceof ViewedValue || body instanceof MappingJacksonValue
+                || !(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+        Class<?> view = policy.resolveView(((ServletServerHttpRequest) request).getServletRequest());
+        return view == null ? body : JacksonUtil.withView(body, view);
+    }
+
+    /**
+     * 方法或其所在的类是否标注了 {@link RoleJsonView}
+     */
+    static boolean isAnnotated(MethodParameter returnType) {
+        return returnType.hasMethodAnnotation(RoleJsonView.class)
+                || AnnotatedElementUtils.hasAnnotation(returnType.getContainingClass(), RoleJsonView.class);
+    }
+}
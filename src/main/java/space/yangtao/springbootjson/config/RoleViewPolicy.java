@@ -0,0 +1,75 @@
+package space.yangtao.springbootjson.config;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 按角色选择 @JsonView 视图的策略
+ * <p>
+ * 可通过 {@code jackson.view.*} 配置，例如：
+ * <pre>
+ * jackson.view.roles.INTERNAL=space.yangtao.springbootjson.config.Views$Internal
+ * jackson.view.roles.PUBLIC=space.yangtao.springbootjson.config.Views$Public
+ * jackson.view.default-view=space.yangtao.springbootjson.config.Views$Public
+ * </pre>
+ * 角色默认只取自容器认证的结果；只有同时设置 {@code trust-role-header=true} 与 {@code role-header} 时才读取请求头。
+ *
+ * @author yangtao
+ * @since 2025/8/11 17:00
+ */
+@Data
+@Accessors(chain = true)
+@ConfigurationProperties(prefix = "jackson.view")
+public class RoleViewPolicy {
+
+    /**
+     * 角色名（不区分大小写）到视图的映射，按声明顺序匹配
+     */
+    private Map<String, Class<?>> roles = new LinkedHashMap<>();
+
+    /**
+     * 没有匹配到角色时使用的视图，为 null 时按无视图输出
+     */
+    private Class<?> defaultView;
+
+    /**
+     * 是否在请求未经容器认证（没有 UserPrincipal）时从 {@link #roleHeader} 读取角色，默认不读取；
+     * 只能在网关会覆盖或剔除该请求头的部署中开启，否则任何调用方都可以自称高权限角色
+     */
+    private boolean trustRoleHeader;
+
+    /**
+     * 读取角色的请求头，仅在 {@link #trustRoleHeader} 开启时使用，默认为空
+     */
+    private String roleHeader;
+
+    /**
+     * 按请求的角色选择视图：已认证的请求按声明顺序取第一个 isUserInRole 匹配的角色；
+     * 未认证的请求只在开启 {@link #trustRoleHeader} 时按请求头匹配；都没有匹配到时返回 {@link #defaultView}
+     */
+    public Class<?> resolveView(HttpServletRequest request) {
+        if (request.getUserPrincipal() != null) {
+            for (Map.Entry<String, Class<?>> role : roles.entrySet()) {
+                if (request.isUserInRole(role.getKey())) {
+                    return role.getValue();
+                }
+            }
+        } else if (trustRoleHeader && StringUtils.hasText(roleHeader)) {
+            String header = request.getHeader(roleHeader);
+            if (header != null) {
+                for (Map.Entry<String, Class<?>> role : roles.entrySet()) {
+                    if (role.getKey().equalsIgnoreCase(header.trim())) {
+                        return role.getValue();
+                    }
+                }
+            }
+        }
+        return defaultView;
+    }
+}
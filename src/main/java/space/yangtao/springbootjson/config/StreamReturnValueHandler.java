@@ -0,0 +1,118 @@
+package space.yangtao.springbootjson.config;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import space.yangtao.springbootjson.utils.JacksonUtil;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 控制器返回 {@link Stream} 时边拉取边写出，不在内存中收集整个列表
+ * <p>
+ * 请求 Accept 中 application/x-ndjson 优先于JSON（或映射的 produces 只声明了它）时输出 NDJSON，
+ * 否则输出JSON数组。响应不设置 Content-Length，按分块传输；写完后关闭 Stream。
+ * <p>
+ * 该处理器排在 ResponseBodyAdvice 之前，视图在这里自行选择：方法上的 @JsonView 优先，
+ * 其次是 {@link RoleJsonView}（按 {@link RoleViewPolicy} 选择，规则与 {@link RoleJsonViewAdvice} 相同）。
+ * 请求带有字段列表参数时同 {@link FieldProjectionAdvice} 一样投影，每个元素按其运行时类型取投影写出器。
+ *
+ * @author yangtao
+ * @since 2025/8/7 10:20
+ */
+public class StreamReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final RoleViewPolicy policy;
+
+    /**
+     * 字段列表的请求参数名
+     */
+    private final String parameter;
+
+    public StreamReturnValueHandler(RoleViewPolicy policy, String parameter) {
+        this.policy = policy;
+        this.parameter = parameter;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return Stream.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        mavContainer.setRequestHandled(true);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (response == null) {
+            throw new IllegalStateException("流式输出需要 HttpServletResponse");
+        }
+        Stream<?> stream = returnValue == null ? Stream.empty() : (Stream<?>) returnValue;
+        Class<?> view = resolveView(returnType, webRequest);
+        String fields = webRequest.getParameter(parameter);
+        if (isNdjson(webRequest)) {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            JacksonUtil.writeNdjson(stream, response.getOutputStream(), view, fields);
+        } else {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            JacksonUtil.writeArray(stream, response.getOutputStream(), view, fields);
+        }
+        response.flushBuffer();
+    }
+
+    private Class<?> resolveView(MethodParameter returnType, NativeWebRequest webRequest) {
+        JsonView jsonView = returnType.getMethodAnnotation(JsonView.class);
+        if (jsonView != null && jsonView.value().length > 0) {
+            return jsonView.value()[0];
+        }
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null || !RoleJsonViewAdvice.isAnnotated(returnType)) {
+            return null;
+        }
+        return policy.resolveView(request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isNdjson(NativeWebRequest webRequest) {
+        Set<MediaType> producible = (Set<MediaType>) webRequest.getAttribute(
+                HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, NativeWebRequest.SCOPE_REQUEST);
+        if (producible != null && producible.size() == 1
+                && MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(producible.iterator().next())) {
+            return true;
+        }
+        // 按 q 值与具体程度排序后，先匹配到哪种就用哪种；*/* 视为JSON
+        for (MediaType accepted : accepted(webRequest)) {
+            if (MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(accepted)) {
+                return true;
+            }
+            if (accepted.includes(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static List<MediaType> accepted(NativeWebRequest webRequest) {
+        String[] values = webRequest.getHeaderValues(HttpHeaders.ACCEPT);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(String.join(",", values));
+            MediaType.sortBySpecificityAndQuality(mediaTypes);
+            return mediaTypes;
+        } catch (IllegalArgumentException e) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package space.yangtao.springbootjson.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 注册 {@link StreamReturnValueHandler}
+ * <p>
+ * 通过 WebMvcConfigurer 添加的处理器排在内置处理器之后，@ResponseBody 方法的 Stream 返回值会先被
+ * RequestResponseBodyMethodProcessor 接管，因此这里直接放到处理器列表的最前面。
+ *
+ * @author yangtao
+ * @since 2025/8/7 10:45
+ */
+@Configuration(proxyBeanMethods = false)
+public class StreamingResponseConfig implements InitializingBean {
+
+    private final RequestMappingHandlerAdapter handlerAdapter;
+
+    private final RoleViewPolicy policy;
+
+    /**
+     * 字段列表的请求参数名，与 {@link FieldProjectionAdvice} 相同
+     */
+    @Value("${jackson.projection.parameter:fields}")
+    private String parameter = "fields";
+
+    public StreamingResponseConfig(RequestMappingHandlerAdapter handlerAdapter, RoleViewPolicy policy) {
+        this.handlerAdapter = handlerAdapter;
+        this.policy = policy;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+        handlers.add(new StreamReturnValueHandler(policy, parameter));
+        if (handlerAdapter.getReturnValueHandlers() != null) {
+            handlers.addAll(handlerAdapter.getReturnValueHandlers());
+        }
+        handlerAdapter.setReturnValueHandlers(handlers);
+    }
+}
@@ -1,7 +1,6 @@
 package space.yangtao.springbootjson.domain;
 
 import com.fasterxml.jackson.annotation.*;
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
@@ -10,8 +9,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import org.springframework.format.annotation.DateTimeFormat;
-import space.yangtao.springbootjson.GenderDeserializer;
 import space.yangtao.springbootjson.config.Views;
+import space.yangtao.springbootjson.mask.Mask;
+import space.yangtao.springbootjson.mask.MaskStrategy;
+import space.yangtao.springbootjson.module.EnumCode;
+import space.yangtao.springbootjson.module.EnumCodec;
+import space.yangtao.springbootjson.module.EnumCodecTable;
 import space.yangtao.springbootjson.serializer.PhoneNumberSerializer;
 
 import java.math.BigDecimal;
@@ -43,7 +46,6 @@ public class User {
 //    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
 //    private Date birthday;
 
-    @JsonDeserialize(using = GenderDeserializer.class)
     private Gender gender;
 
     @JsonFormat(pattern = "yyyy-MM-dd")
@@ -77,6 +79,7 @@ public class User {
     @JsonView(Views.Internal.class)
     public String internalField;
 
+    @Mask(strategy = MaskStrategy.PHONE)
     public EncryptedPhone phone;
 
     @JsonProperty("name")
@@ -86,9 +89,13 @@ public class User {
 
     @Getter
     @AllArgsConstructor
+    @EnumCodec(unknown = "UNKNOWN")
     public enum Gender {
+        @EnumCode(value = "male", aliases = "男")
         MALE("male", "男"),
+        @EnumCode(value = "female", aliases = "女")
         FEMALE("female", "女"),
+        @EnumCode(value = "unknown", aliases = "未知")
         UNKNOWN("unknown", "未知");
 
         private final String value;
@@ -103,12 +110,7 @@ public class User {
         // 反序列化时使用的工厂方法
         // @JsonCreator
         public static Gender fromValue(String value) {
-            for (Gender gender : values()) {
-                if (gender.value.equals(value)) {
-                    return gender;
-                }
-            }
-            return UNKNOWN; // 如果没有匹配的值，返回默认值
+            return EnumCodecTable.of(Gender.class).findOrUnknown(value); // 如果没有匹配的值，返回默认值
         }
     }
 
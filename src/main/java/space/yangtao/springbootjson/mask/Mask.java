@@ -0,0 +1,25 @@
+package space.yangtao.springbootjson.mask;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 序列化时对字符串属性脱敏
+ * <p>
+ * 由 {@link space.yangtao.springbootjson.config.MaskSerializerModifier} 统一处理，只作用于 String 与 EncryptedPhone（输出脱敏后的 originalNum）
+ * 类型的属性，标注在其他类型上时忽略；属性同时指定了 @JsonSerialize(using = ...) 时，对该序列化器输出的标量脱敏。
+ *
+ * @author yangtao
+ * @since 2025/7/31 10:12
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Mask {
+
+    /**
+     * 脱敏策略
+     */
+    MaskStrategy strategy();
+}
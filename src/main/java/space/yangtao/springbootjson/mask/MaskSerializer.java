@@ -0,0 +1,79 @@
+package space.yangtao.springbootjson.mask;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 按 {@link MaskStrategy} 脱敏输出字符串
+ * <p>
+ * 每个策略只有一个无状态实例；脱敏结果写入线程内复用的字符缓冲区，再通过
+ * {@link JsonGenerator#writeString(char[], int, int)} 输出，正常长度的值不产生任何中间对象。
+ *
+ * @author yangtao
+ * @since 2025/7/31 10:40
+ */
+public final class MaskSerializer extends StdSerializer<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 线程内缓冲区的初始长度
+     */
+    private static final int INITIAL_BUFFER = 64;
+
+    /**
+     * 超过该长度的值使用临时缓冲区，避免线程长期持有大数组
+     */
+    private static final int MAX_REUSED_BUFFER = 4096;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[INITIAL_BUFFER]);
+
+    private static final Map<MaskStrategy, MaskSerializer> INSTANCES = new EnumMap<>(MaskStrategy.class);
+
+    static {
+        for (MaskStrategy strategy : MaskStrategy.values()) {
+            INSTANCES.put(strategy, new MaskSerializer(strategy));
+        }
+    }
+
+    private final MaskStrategy strategy;
+
+    private MaskSerializer(MaskStrategy strategy) {
+        super(String.class);
+        this.strategy = strategy;
+    }
+
+    /**
+     * 获取策略对应的序列化器（单例）
+     */
+    public static MaskSerializer of(MaskStrategy strategy) {
+        return INSTANCES.get(strategy);
+    }
+
+    public MaskStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = buffer(value.length());
+        gen.writeString(buffer, 0, strategy.mask(value, buffer));
+    }
+
+    private static char[] buffer(int length) {
+        if (length > MAX_REUSED_BUFFER) {
+            return new char[length];
+        }
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+}
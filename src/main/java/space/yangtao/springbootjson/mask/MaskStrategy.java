@@ -0,0 +1,133 @@
+package space.yangtao.springbootjson.mask;
+
+/**
+ * 内置脱敏策略
+ * <p>
+ * 每个策略把结果直接写入调用方提供的字符缓冲区并返回写入长度，不创建中间字符串；
+ * 脱敏结果与原值等长，缓冲区长度不小于原值长度即可。
+ *
+ * @author yangtao
+ * @since 2025/7/31 10:15
+ */
+public enum MaskStrategy {
+
+    /**
+     * 手机号：连续11位数字保留前3位和后4位，如 135****8901
+     * <p>
+     * 与原先的 replaceAll("(\\d{3})(\\d{4})(\\d{4})", "$1****$3") 结果一致：
+     * 每段连续数字从左到右按11位一组依次处理，不足11位的部分原样保留。
+     */
+    PHONE {
+        @Override
+        public int mask(String value, char[] out) {
+            int length = copy(value, out);
+            int i = 0;
+            while (i < length) {
+                if (!isDigit(out[i])) {
+                    i++;
+                    continue;
+                }
+                int start = i;
+                while (i < length && isDigit(out[i])) {
+                    i++;
+                }
+                for (int group = start; group + PHONE_LENGTH <= i; group += PHONE_LENGTH) {
+                    fill(out, group + 3, group + 7);
+                }
+            }
+            return length;
+        }
+    },
+
+    /**
+     * 身份证号：保留前3位和后4位，如 110***********1234
+     */
+    ID_CARD {
+        @Override
+        public int mask(String value, char[] out) {
+            return keep(value, out, 3, 4);
+        }
+    },
+
+    /**
+     * 银行卡号：保留前4位和后4位，如 6222***********0123
+     */
+    BANK_CARD {
+        @Override
+        public int mask(String value, char[] out) {
+            return keep(value, out, 4, 4);
+        }
+    },
+
+    /**
+     * 邮箱：@ 之前只保留首字符，域名原样保留，如 y******@example.com；不含 @ 时只保留首字符
+     */
+    EMAIL {
+        @Override
+        public int mask(String value, char[] out) {
+            int length = copy(value, out);
+            int at = value.indexOf('@');
+            fill(out, Math.min(1, length), at < 0 ? length : at);
+            return length;
+        }
+    },
+
+    /**
+     * 姓名：只保留第一个字，如 张**
+     */
+    NAME {
+        @Override
+        public int mask(String value, char[] out) {
+            return keep(value, out, 1, 0);
+        }
+    };
+
+    private static final int PHONE_LENGTH = 11;
+
+    private static final char MASK_CHAR = '*';
+
+    /**
+     * 将脱敏结果写入 out（长度不小于 value.length()），返回写入的字符数
+     */
+    public abstract int mask(String value, char[] out);
+
+    /**
+     * 返回脱敏后的字符串，供非序列化场景使用
+     */
+    public String apply(String value) {
+        if (value == null) {
+            return null;
+        }
+        char[] out = new char[value.length()];
+        return new String(out, 0, mask(value, out));
+    }
+
+    /**
+     * 保留前 front 个和后 end 个字符，其余替换为掩码；原值过短时整体替换
+     */
+    private static int keep(String value, char[] out, int front, int end) {
+        int length = copy(value, out);
+        if (length <= front + end) {
+            fill(out, 0, length);
+        } else {
+            fill(out, front, length - end);
+        }
+        return length;
+    }
+
+    private static int copy(String value, char[] out) {
+        int length = value.length();
+        value.getChars(0, length, out, 0);
+        return length;
+    }
+
+    private static void fill(char[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = MASK_CHAR;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,174 @@
+package space.yangtao.springbootjson.module;
+
+/**
+ * 固定格式 yyyy-MM-dd / HH:mm:ss / yyyy-MM-dd HH:mm:ss 的手写格式化与解析
+ * <p>
+ * 只处理四位年份（0000-9999）与严格等长的输入，其余情况由调用方回退到通用实现。
+ *
+ * @author yangtao
+ * @since 2025/8/4 10:05
+ */
+final class DateTimeChars {
+
+    /**
+     * yyyy-MM-dd 的长度
+     */
+    static final int DATE_LENGTH = 10;
+
+    /**
+     * HH:mm:ss 的长度
+     */
+    static final int TIME_LENGTH = 8;
+
+    /**
+     * yyyy-MM-dd HH:mm:ss 的长度
+     */
+    static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+
+    static final int SECONDS_PER_DAY = 86_400;
+
+    /**
+     * 0000-03-01 到 1970-01-01 的天数
+     */
+    private static final long DAYS_0000_TO_1970 = 719_468;
+
+    private DateTimeChars() {
+    }
+
+    /*==================  格式化  ==================*/
+
+    /**
+     * 写出 yyyy-MM-dd，返回结束位置
+     */
+    static int writeDate(char[] buf, int off, int year, int month, int day) {
+        write4(buf, off, year);
+        buf[off + 4] = '-';
+        write2(buf, off + 5, month);
+        buf[off + 7] = '-';
+        write2(buf, off + 8, day);
+        return off + DATE_LENGTH;
+    }
+
+    /**
+     * 写出 HH:mm:ss，返回结束位置
+     */
+    static int writeTime(char[] buf, int off, int hour, int minute, int second) {
+        write2(buf, off, hour);
+        buf[off + 2] = ':';
+        write2(buf, off + 3, minute);
+        buf[off + 5] = ':';
+        write2(buf, off + 6, second);
+        return off + TIME_LENGTH;
+    }
+
+    /**
+     * 按本地纪元秒写出 yyyy-MM-dd HH:mm:ss，年份超出四位时返回-1
+     */
+    static int writeEpochSecond(char[] buf, int off, long localEpochSecond) {
+        long epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        // civil_from_days（proleptic Gregorian）
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, 146_097);
+        int dayOfEra = (int) (z - era * 146_097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int end = writeDate(buf, off, (int) year, month, day);
+        buf[end] = ' ';
+        return writeTime(buf, end + 1, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+    }
+
+    /*==================  解析  ==================*/
+
+    /**
+     * 解析 yyyy-MM-dd，成功时返回 year * 10000 + month * 100 + day，格式不符返回-1（不校验月份天数）
+     */
+    static int parseDate(char[] buf, int off) {
+        if (buf[off + 4] != '-' || buf[off + 7] != '-') {
+            return -1;
+        }
+        int year = read4(buf, off);
+        int month = read2(buf, off + 5);
+        int day = read2(buf, off + 8);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return -1;
+        }
+        return year * 10_000 + month * 100 + day;
+    }
+
+    /**
+     * 解析 HH:mm:ss，成功时返回当日秒数，格式或取值不合法返回-1
+     */
+    static int parseTime(char[] buf, int off) {
+        if (buf[off + 2] != ':' || buf[off + 5] != ':') {
+            return -1;
+        }
+        int hour = read2(buf, off);
+        int minute = read2(buf, off + 3);
+        int second = read2(buf, off + 6);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * 日期对应的纪元天数（proleptic Gregorian，days_from_civil）
+     */
+    static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        int yearOfEra = (int) (y - era * 400);
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /*==================  内部方法  ==================*/
+
+    private static void write2(char[] buf, int off, int value) {
+        buf[off] = (char) ('0' + value / 10);
+        buf[off + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void write4(char[] buf, int off, int value) {
+        write2(buf, off, value / 100);
+        write2(buf, off + 2, value % 100);
+    }
+
+    private static int read2(char[] buf, int off) {
+        int high = buf[off] - '0';
+        int low = buf[off + 1] - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9) {
+            return -1;
+        }
+        return high * 10 + low;
+    }
+
+    private static int read4(char[] buf, int off) {
+        int high = read2(buf, off);
+        int low = read2(buf, off + 2);
+        return high < 0 || low < 0 ? -1 : high * 100 + low;
+    }
+}
@@ -0,0 +1,528 @@
+package space.yangtao.springbootjson.module;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.DateDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.List;
+
+import static space.yangtao.springbootjson.module.DateTimeChars.DATE_LENGTH;
+import static space.yangtao.springbootjson.module.DateTimeChars.DATE_TIME_LENGTH;
+import static space.yangtao.springbootjson.module.DateTimeChars.SECONDS_PER_DAY;
+import static space.yangtao.springbootjson.module.DateTimeChars.TIME_LENGTH;
+
+/**
+ * 固定格式日期时间编解码：Date / LocalDateTime 使用 yyyy-MM-dd HH:mm:ss，LocalDate 使用 yyyy-MM-dd，LocalTime 使用 HH:mm:ss
+ * <p>
+ * 数字逐位写入线程内复用的字符缓冲区后交给生成器，解析时直接读取解析器字符缓冲区，
+ * 不经过 SimpleDateFormat / DateTimeFormatter。Date 与纪元时间的换算使用缓存的固定时区偏移
+ * （如 Asia/Shanghai 自1991年最后一次夏令时结束后恒为 +08:00），该区间之外的时间点回退到通用实现。
+ * <p>
+ * 属性上声明了不同的 @JsonFormat（格式、时区、Locale 等），或 ObjectMapper 的时区、DateFormat
+ * 与本模块不一致时，该属性整体回退到 Jackson 的标准实现。
+ *
+ * @author yangtao
+ * @since 2025/8/4 10:30
+ */
+public class DateTimeCodecModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    public static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    public static final String TIME_PATTERN = "HH:mm:ss";
+
+    /**
+     * 快速路径支持的最早时间点（1900-01-01T00:00:00Z），更早的日期涉及儒略历等差异，交给通用实现
+     */
+    private static final long MIN_FAST_EPOCH_SECOND = -2_208_988_800L;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[DATE_TIME_LENGTH]);
+
+    private final ZoneId zone;
+
+    public DateTimeCodecModule(ZoneId zone) {
+        super("DateTimeCodecModule");
+        this.zone = zone;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        ZoneOffsetCache offsets = new ZoneOffsetCache(zone);
+        context.addSerializers(new CodecSerializers(offsets));
+        context.addDeserializers(new CodecDeserializers(offsets));
+    }
+
+    /*==================  时区偏移  ==================*/
+
+    /**
+     * 缓存时区最后一次偏移变化之后的固定偏移；时区仍有周期性规则（如夏令时）时不启用快速路径
+     */
+    static final class ZoneOffsetCache {
+
+        private final ZoneId zone;
+
+        /**
+         * 自该纪元秒（含）起偏移固定
+         */
+        private final long fixedFromSecond;
+
+        private final int offsetSeconds;
+
+        ZoneOffsetCache(ZoneId zone) {
+            this.zone = zone;
+            ZoneRules rules = zone.getRules();
+            List<ZoneOffsetTransition> transitions = rules.getTransitions();
+            if (rules.isFixedOffset()) {
+                fixedFromSecond = MIN_FAST_EPOCH_SECOND;
+                offsetSeconds = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+            } else if (rules.getTransitionRules().isEmpty() && !transitions.isEmpty()) {
+                ZoneOffsetTransition last = transitions.get(transitions.size() - 1);
+                fixedFromSecond = Math.max(last.getInstant().getEpochSecond(), MIN_FAST_EPOCH_SECOND);
+                offsetSeconds = last.getOffsetAfter().getTotalSeconds();
+            } else {
+                fixedFromSecond = Long.MAX_VALUE;
+                offsetSeconds = 0;
+            }
+        }
+
+        boolean matches(MapperConfig<?> config) {
+            if (!zone.getId().equals(config.getTimeZone().getID())) {
+                return false;
+            }
+            DateFormat format = config.getDateFormat();
+            return format instanceof SimpleDateFormat && DATE_TIME_PATTERN.equals(((SimpleDateFormat) format).toPattern());
+        }
+
+        boolean isFixed(long epochSecond) {
+            return epochSecond >= fixedFromSecond;
+        }
+
+        int offsetSeconds() {
+            return offsetSeconds;
+        }
+    }
+
+    /**
+     * 属性上的 @JsonFormat 是否与固定格式一致（未声明或只声明了相同的格式）
+     */
+    private static boolean isDefaultFormat(JsonFormat.Value format, String pattern) {
+        if (format == null) {
+            return true;
+        }
+        JsonFormat.Shape shape = format.getShape();
+        return (shape == JsonFormat.Shape.ANY || shape == JsonFormat.Shape.STRING)
+                && (!format.hasPattern() || pattern.equals(format.getPattern()))
+                && !format.hasLocale()
+                && !format.hasTimeZone()
+                && format.getLenient() == null;
+    }
+
+    /**
+     * 当前token为长度恰好等于 length 的字符串时返回其在字符缓冲区中的起点，否则返回-1
+     */
+    private static int exactText(JsonParser p, int length) throws IOException {
+        if (p.currentToken() != JsonToken.VALUE_STRING || p.getTextLength() != length) {
+            return -1;
+        }
+        return p.getTextOffset();
+    }
+
+    /*==================  序列化  ==================*/
+
+    private static final class CodecSerializers extends Serializers.Base {
+
+        private final ZoneOffsetCache offsets;
+
+        CodecSerializers(ZoneOffsetCache offsets) {
+            this.offsets = offsets;
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            Class<?> raw = type.getRawClass();
+            if (raw == Date.class) {
+                return new DateCodecSerializer(offsets);
+            }
+            if (raw == LocalDateTime.class) {
+                return LocalDateTimeCodecSerializer.INSTANCE;
+            }
+            if (raw == LocalDate.class) {
+                return LocalDateCodecSerializer.INSTANCE;
+            }
+            if (raw == LocalTime.class) {
+                return LocalTimeCodecSerializer.INSTANCE;
+            }
+            return null;
+        }
+    }
+
+    static final class DateCodecSerializer extends StdScalarSerializer<Date> implements ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ZoneOffsetCache offsets;
+
+        DateCodecSerializer(ZoneOffsetCache offsets) {
+            super(Date.class);
+            this.offsets = offsets;
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            if (!provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    && offsets.matches(provider.getConfig())
+                    && isDefaultFormat(findFormatOverrides(provider, property, handledType()), DATE_TIME_PATTERN)) {
+                return this;
+            }
+            return DateSerializer.instance.createContextual(provider, property);
+        }
+
+        @Override
+        public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            long epochSecond = Math.floorDiv(value.getTime(), 1000L);
+            if (offsets.isFixed(epochSecond)) {
+                char[] buffer = BUFFER.get();
+                int end = DateTimeChars.writeEpochSecond(buffer, 0, epochSecond + offsets.offsetSeconds());
+                if (end > 0) {
+                    gen.writeString(buffer, 0, end);
+                    return;
+                }
+            }
+            provider.defaultSerializeDateValue(value, gen);
+        }
+    }
+
+    static final class LocalDateTimeCodecSerializer extends StdScalarSerializer<LocalDateTime> implements ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        static final LocalDateTimeCodecSerializer INSTANCE = new LocalDateTimeCodecSerializer();
+
+        private static final LocalDateTimeSerializer FALLBACK =
+                new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN));
+
+        private LocalDateTimeCodecSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            if (isDefaultFormat(findFormatOverrides(provider, property, handledType()), DATE_TIME_PATTERN)) {
+                return this;
+            }
+            return FALLBACK.createContextual(provider, property);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int year = value.getYear();
+            if (year < 0 || year > 9999) {
+                FALLBACK.serialize(value, gen, provider);
+                return;
+            }
+            char[] buffer = BUFFER.get();
+            int end = DateTimeChars.writeDate(buffer, 0, year, value.getMonthValue(), value.getDayOfMonth());
+            buffer[end] = ' ';
+            end = DateTimeChars.writeTime(buffer, end + 1, value.getHour(), value.getMinute(), value.getSecond());
+            gen.writeString(buffer, 0, end);
+        }
+    }
+
+    static final class LocalDateCodecSerializer extends StdScalarSerializer<LocalDate> implements ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        static final LocalDateCodecSerializer INSTANCE = new LocalDateCodecSerializer();
+
+        private static final LocalDateSerializer FALLBACK =
+                new LocalDateSerializer(DateTimeFormatter.ofPattern(DATE_PATTERN));
+
+        private LocalDateCodecSerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            if (isDefaultFormat(findFormatOverrides(provider, property, handledType()), DATE_PATTERN)) {
+                return this;
+            }
+            return FALLBACK.createContextual(provider, property);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int year = value.getYear();
+            if (year < 0 || year > 9999) {
+                FALLBACK.serialize(value, gen, provider);
+                return;
+            }
+            char[] buffer = BUFFER.get();
+            gen.writeString(buffer, 0, DateTimeChars.writeDate(buffer, 0, year, value.getMonthValue(), value.getDayOfMonth()));
+        }
+    }
+
+    static final class LocalTimeCodecSerializer extends StdScalarSerializer<LocalTime> implements ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        static final LocalTimeCodecSerializer INSTANCE = new LocalTimeCodecSerializer();
+
+        private static final LocalTimeSerializer FALLBACK =
+                new LocalTimeSerializer(DateTimeFormatter.ofPattern(TIME_PATTERN));
+
+        private LocalTimeCodecSerializer() {
+            super(LocalTime.class);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            if (isDefaultFormat(findFormatOverrides(provider, property, handledType()), TIME_PATTERN)) {
+                return this;
+            }
+            return FALLBACK.createContextual(provider, property);
+        }
+
+        @Override
+        public void serialize(LocalTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            char[] buffer = BUFFER.get();
+            gen.writeString(buffer, 0, DateTimeChars.writeTime(buffer, 0, value.getHour(), value.getMinute(), value.getSecond()));
+        }
+    }
+
+    /*==================  反序列化  ==================*/
+
+    private static final class CodecDeserializers extends Deserializers.Base {
+
+        private final ZoneOffsetCache offsets;
+
+        CodecDeserializers(ZoneOffsetCache offsets) {
+            this.offsets = offsets;
+        }
+
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+            Class<?> raw = type.getRawClass();
+            if (raw == Date.class) {
+                return new DateCodecDeserializer(offsets);
+            }
+            if (raw == LocalDateTime.class) {
+                return LocalDateTimeCodecDeserializer.INSTANCE;
+            }
+            if (raw == LocalDate.class) {
+                return LocalDateCodecDeserializer.INSTANCE;
+            }
+            if (raw == LocalTime.class) {
+                return LocalTimeCodecDeserializer.INSTANCE;
+            }
+            return null;
+        }
+    }
+
+    static final class DateCodecDeserializer extends StdScalarDeserializer<Date> implements ContextualDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final DateDeserializers.DateDeserializer FALLBACK = new DateDeserializers.DateDeserializer();
+
+        private final transient ZoneOffsetCache offsets;
+
+        DateCodecDeserializer(ZoneOffsetCache offsets) {
+            super(Date.class);
+            this.offsets = offsets;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            if (offsets.matches(ctxt.getConfig())
+                    && isDefaultFormat(findFormatOverrides(ctxt, property, handledType()), DATE_TIME_PATTERN)) {
+                return this;
+            }
+            return FALLBACK.createContextual(ctxt, property);
+        }
+
+        @Override
+        public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            int off = exactText(p, DATE_TIME_LENGTH);
+            if (off >= 0) {
+                char[] chars = p.getTextCharacters();
+                int date = DateTimeChars.parseDate(chars, off);
+                int secondOfDay = chars[off + DATE_LENGTH] == ' ' ? DateTimeChars.parseTime(chars, off + DATE_LENGTH + 1) : -1;
+                if (date >= 0 && secondOfDay >= 0) {
+                    int year = date / 10_000;
+                    int month = date / 100 % 100;
+                    int day = date % 100;
+                    if (day <= DateTimeChars.lengthOfMonth(year, month)) {
+                        long epochSecond = DateTimeChars.epochDay(year, month, day) * SECONDS_PER_DAY
+                                + secondOfDay - offsets.offsetSeconds();
+                        if (offsets.isFixed(epochSecond)) {
+                            return new Date(epochSecond * 1000L);
+                        }
+                    }
+                }
+            }
+            return FALLBACK.deserialize(p, ctxt);
+        }
+    }
+
+    static final class LocalDateTimeCodecDeserializer extends StdScalarDeserializer<LocalDateTime> implements ContextualDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        static final LocalDateTimeCodecDeserializer INSTANCE = new LocalDateTimeCodecDeserializer();
+
+        private static final LocalDateTimeDeserializer FALLBACK =
+                new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN));
+
+        private LocalDateTimeCodecDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            if (isDefaultFormat(findFormatOverrides(ctxt, property, handledType()), DATE_TIME_PATTERN)) {
+                return this;
+            }
+            return FALLBACK.createContextual(ctxt, property);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            int off = exactText(p, DATE_TIME_LENGTH);
+            if (off >= 0) {
+                char[] chars = p.getTextCharacters();
+                int date = DateTimeChars.parseDate(chars, off);
+                int secondOfDay = chars[off + DATE_LENGTH] == ' ' ? DateTimeChars.parseTime(chars, off + DATE_LENGTH + 1) : -1;
+                if (date >= 0 && secondOfDay >= 0) {
+                    try {
+                        return LocalDateTime.of(date / 10_000, date / 100 % 100, date % 100,
+                                secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+                    } catch (DateTimeException ignored) {
+                        // 非法日期交给默认实现按统一方式报错
+                    }
+                }
+            }
+            return FALLBACK.deserialize(p, ctxt);
+        }
+    }
+
+    static final class LocalDateCodecDeserializer extends StdScalarDeserializer<LocalDate> implements ContextualDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        static final LocalDateCodecDeserializer INSTANCE = new LocalDateCodecDeserializer();
+
+        private static final LocalDateDeserializer FALLBACK =
+                new LocalDateDeserializer(DateTimeFormatter.ofPattern(DATE_PATTERN));
+
+        private LocalDateCodecDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            if (isDefaultFormat(findFormatOverrides(ctxt, property, handledType()), DATE_PATTERN)) {
+                return this;
+            }
+            return FALLBACK.createContextual(ctxt, property);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            int off = exactText(p, DATE_LENGTH);
+            if (off >= 0) {
+                int date = DateTimeChars.parseDate(p.getTextCharacters(), off);
+                if (date >= 0) {
+                    try {
+                        return LocalDate.of(date / 10_000, date / 100 % 100, date % 100);
+                    } catch (DateTimeException ignored) {
+                        // 非法日期交给默认实现按统一方式报错
+                    }
+                }
+            }
+            return FALLBACK.deserialize(p, ctxt);
+        }
+    }
+
+    static final class LocalTimeCodecDeserializer extends StdScalarDeserializer<LocalTime> implements ContextualDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        static final LocalTimeCodecDeserializer INSTANCE = new LocalTimeCodecDeserializer();
+
+        private static final LocalTimeDeserializer FALLBACK =
+                new LocalTimeDeserializer(DateTimeFormatter.ofPattern(TIME_PATTERN));
+
+        private LocalTimeCodecDeserializer() {
+            super(LocalTime.class);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            if (isDefaultFormat(findFormatOverrides(ctxt, property, handledType()), TIME_PATTERN)) {
+                return this;
+            }
+            return FALLBACK.createContextual(ctxt, property);
+        }
+
+        @Override
+        public LocalTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            int off = exactText(p, TIME_LENGTH);
+            if (off >= 0) {
+                int secondOfDay = DateTimeChars.parseTime(p.getTextCharacters(), off);
+                if (secondOfDay >= 0) {
+                    return LocalTime.ofSecondOfDay(secondOfDay);
+                }
+            }
+            return FALLBACK.deserialize(p, ctxt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package space.yangtao.springbootjson.module;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 声明枚举常量的线上编码及可接受的别名，未标注的常量以常量名作为编码
+ *
+ * @author yangtao
+ * @since 2025/8/1 09:32
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnumCode {
+
+    /**
+     * 序列化输出的编码
+     */
+    String value();
+
+    /**
+     * 反序列化时额外接受的别名
+     */
+    String[] aliases() default {};
+}
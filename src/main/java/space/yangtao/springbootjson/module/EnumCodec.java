@@ -0,0 +1,34 @@
+package space.yangtao.springbootjson.module;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记枚举由 {@link EnumCodecModule} 编解码：输出各常量的 {@link EnumCode#value()}，
+ * 输入时按编码、别名（及可选的常量名）查找
+ *
+ * @author yangtao
+ * @since 2025/8/1 09:30
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnumCodec {
+
+    /**
+     * 无法匹配（含空字符串）时返回的常量名；为空时按
+     * DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL 返回null或抛出异常
+     */
+    String unknown() default "";
+
+    /**
+     * 输入匹配是否忽略大小写
+     */
+    boolean ignoreCase() default false;
+
+    /**
+     * 是否同时接受常量名作为输入
+     */
+    boolean acceptNames() default true;
+}
@@ -0,0 +1,138 @@
+package space.yangtao.springbootjson.module;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.databind.type.LogicalType;
+
+import java.io.IOException;
+
+/**
+ * 为标注了 {@link EnumCodec} 的枚举提供编解码，取代逐个手写的 JsonDeserializer 与 fromValue 线性查找
+ * <p>
+ * 输出：写出预编码的 {@link EnumCode#value()}；输入：字符串或整数token直接以解析器字符缓冲区查表，
+ * 匹配编码、别名及常量名（可关闭）。
+ *
+ * @author yangtao
+ * @since 2025/8/1 10:20
+ */
+public class EnumCodecModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public EnumCodecModule() {
+        super("EnumCodecModule");
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addSerializers(new CodecSerializers());
+        context.addDeserializers(new CodecDeserializers());
+    }
+
+    /**
+     * 常量带类体时运行期类型为匿名子类，取其声明的枚举类型
+     */
+    private static Class<?> enumTypeOf(Class<?> raw) {
+        if (raw.isEnum()) {
+            return raw;
+        }
+        Class<?> parent = raw.getSuperclass();
+        return parent != null && parent.isEnum() ? parent : raw;
+    }
+
+    private static final class CodecSerializers extends Serializers.Base {
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            Class<?> raw = enumTypeOf(type.getRawClass());
+            return EnumCodecTable.supports(raw) ? new CodecSerializer(EnumCodecTable.of((Class) raw)) : null;
+        }
+    }
+
+    private static final class CodecDeserializers extends Deserializers.Base {
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public JsonDeserializer<?> findEnumDeserializer(Class<?> type, DeserializationConfig config, BeanDescription beanDesc) {
+            return EnumCodecTable.supports(type) ? new CodecDeserializer(EnumCodecTable.of((Class) type)) : null;
+        }
+    }
+
+    /**
+     * 输出预编码的编码值
+     */
+    public static final class CodecSerializer<E extends Enum<E>> extends StdScalarSerializer<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient EnumCodecTable<E> table;
+
+        public CodecSerializer(EnumCodecTable<E> table) {
+            super(table.getEnumType());
+            this.table = table;
+        }
+
+        @Override
+        public void serialize(E value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(table.code(value));
+        }
+    }
+
+    /**
+     * 以解析器字符缓冲区查表，不创建字符串
+     */
+    public static final class CodecDeserializer<E extends Enum<E>> extends StdScalarDeserializer<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient EnumCodecTable<E> table;
+
+        public CodecDeserializer(EnumCodecTable<E> table) {
+            super(table.getEnumType());
+            this.table = table;
+        }
+
+        @Override
+        public LogicalType logicalType() {
+            return LogicalType.Enum;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NUMBER_INT) {
+                return (E) ctxt.handleUnexpectedToken(handledType(), p);
+            }
+            E value = table.find(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            if (value != null) {
+                return value;
+            }
+            if (table.getUnknown() != null) {
+                return table.getUnknown();
+            }
+            if (ctxt.isEnabled(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)) {
+                return null;
+            }
+            return (E) ctxt.handleWeirdStringValue(handledType(), p.getText(),
+                    "not one of the codes or aliases declared by @EnumCode");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package space.yangtao.springbootjson.module;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 单个 {@link EnumCodec} 枚举预先计算好的编解码表
+ * <p>
+ * 输入查找基于开放寻址哈希表，可直接以解析器的字符缓冲区为键，不创建字符串；
+ * 输出使用预先编码的 {@link SerializableString}。按枚举类型缓存，线程安全。
+ *
+ * @author yangtao
+ * @since 2025/8/1 09:40
+ */
+public final class EnumCodecTable<E extends Enum<E>> {
+
+    private static final ClassValue<EnumCodecTable<?>> TABLES = new ClassValue<EnumCodecTable<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumCodecTable<?> computeValue(Class<?> type) {
+            return new EnumCodecTable(type);
+        }
+    };
+
+    private final Class<E> enumType;
+
+    private final boolean ignoreCase;
+
+    private final E unknown;
+
+    private final SerializableString[] codes;
+
+    private final char[][] keys;
+
+    private final E[] values;
+
+    private final int mask;
+
+    private EnumCodecTable(Class<E> enumType) {
+        EnumCodec codec = enumType.getAnnotation(EnumCodec.class);
+        if (codec == null) {
+            throw new IllegalArgumentException(enumType.getName() + " 未标注 @EnumCodec");
+        }
+        this.enumType = enumType;
+        this.ignoreCase = codec.ignoreCase();
+        this.unknown = codec.unknown().isEmpty() ? null : Enum.valueOf(enumType, codec.unknown());
+
+        E[] constants = enumType.getEnumConstants();
+        this.codes = new SerializableString[constants.length];
+        List<String> inputs = new ArrayList<>();
+        List<E> targets = new ArrayList<>();
+        for (E constant : constants) {
+            EnumCode code = codeOf(constant);
+            String value = code == null ? constant.name() : code.value();
+            codes[constant.ordinal()] = new SerializedString(value);
+            inputs.add(value);
+            targets.add(constant);
+            if (code != null) {
+                for (String alias : code.aliases()) {
+                    inputs.add(alias);
+                    targets.add(constant);
+                }
+                if (codec.acceptNames()) {
+                    inputs.add(constant.name());
+                    targets.add(constant);
+                }
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(inputs.size(), 1) * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.keys = new char[capacity][];
+        @SuppressWarnings("unchecked")
+        E[] slots = (E[]) new Enum<?>[capacity];
+        this.values = slots;
+        for (int i = 0; i < inputs.size(); i++) {
+            put(inputs.get(i), targets.get(i));
+        }
+    }
+
+    /**
+     * 获取枚举类型对应的编解码表
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumCodecTable<E> of(Class<E> enumType) {
+        return (EnumCodecTable<E>) TABLES.get(enumType);
+    }
+
+    /**
+     * 是否标注了 {@link EnumCodec}
+     */
+    public static boolean supports(Class<?> type) {
+        return type.isEnum() && type.isAnnotationPresent(EnumCodec.class);
+    }
+
+    public Class<E> getEnumType() {
+        return enumType;
+    }
+
+    /**
+     * 无法匹配时的默认常量，未声明时为null
+     */
+    public E getUnknown() {
+        return unknown;
+    }
+
+    /**
+     * 常量的预编码输出
+     */
+    public SerializableString code(E value) {
+        return codes[value.ordinal()];
+    }
+
+    /**
+     * 按字符串查找，未匹配时返回null
+     */
+    public E find(String text) {
+        if (text == null) {
+            return null;
+        }
+        int length = text.length();
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + fold(text.charAt(i));
+        }
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            char[] key = keys[slot];
+            if (key.length == length && regionMatches(key, text)) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 按字符区间查找（如解析器的 getTextCharacters），未匹配时返回null
+     */
+    public E find(char[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + fold(buffer[offset + i]);
+        }
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            char[] key = keys[slot];
+            if (key.length == length && regionMatches(key, buffer, offset)) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 以 find(String) 查找，未匹配时返回 {@link #getUnknown()}
+     */
+    public E findOrUnknown(String text) {
+        E value = find(text);
+        return value == null ? unknown : value;
+    }
+
+    /*==================  内部方法  ==================*/
+
+    private void put(String input, E target) {
+        int hash = 0;
+        for (int i = 0; i < input.length(); i++) {
+            hash = 31 * hash + fold(input.charAt(i));
+        }
+        int slot = spread(hash) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].length == input.length() && regionMatches(keys[slot], input)) {
+                if (values[slot] != target) {
+                    throw new IllegalStateException(enumType.getName() + " 的编码/别名 \"" + input + "\" 同时映射到 "
+                            + values[slot] + " 和 " + target);
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = input.toCharArray();
+        values[slot] = target;
+    }
+
+    private boolean regionMatches(char[] key, String text) {
+        for (int i = 0; i < key.length; i++) {
+            if (fold(key[i]) != fold(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean regionMatches(char[] key, char[] buffer, int offset) {
+        for (int i = 0; i < key.length; i++) {
+            if (fold(key[i]) != fold(buffer[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private char fold(char c) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static <E extends Enum<E>> EnumCode codeOf(E constant) {
+        try {
+            return constant.getDeclaringClass().getField(constant.name()).getAnnotation(EnumCode.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package space.yangtao.springbootjson.module;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.module.afterburner.deser.DeserializerModifier;
+import com.fasterxml.jackson.module.afterburner.ser.SerializerModifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 字节码属性访问（Afterburner）：为 Bean 的 getter/setter/字段生成直接调用的访问类，代替反射
+ * <p>
+ * 与直接注册 AfterburnerModule 的区别是可以按类排除：被排除的类保持反射访问。
+ * {@link #selfCheck} 用同配置的反射 ObjectMapper 对候选类做往返对比，结果不一致、出错或无法对比的类自动排除。
+ * 排除只影响之后构建的序列化器，须在 ObjectMapper 投入使用前完成。
+ *
+ * @author yangtao
+ * @since 2025/8/6 09:50
+ */
+public class FastAccessorModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger log = LoggerFactory.getLogger(FastAccessorModule.class);
+
+    /**
+     * 自检时 ObjectMapper 未配置过滤器的兜底：未知的过滤器 ID 输出全部属性，使 @JsonFilter 类也能对比
+     */
+    private static final FilterProvider PERMISSIVE_FILTERS = new SimpleFilterProvider().setFailOnUnknownId(false);
+
+    private final Set<Class<?>> excluded;
+
+    public FastAccessorModule() {
+        super("FastAccessorModule");
+        this.excluded = ConcurrentHashMap.newKeySet();
+        // 与 AfterburnerModule 默认一致：访问类定义在 Bean 所在的类加载器中，失败时退回自有类加载器
+        setSerializerModifier(new SelectiveSerializerModifier(excluded));
+        setDeserializerModifier(new SelectiveDeserializerModifier(excluded));
+    }
+
+    /**
+     * 排除指定类（按类精确匹配，不含子类），使其保持反射访问
+     */
+    public FastAccessorModule exclude(Class<?> type) {
+        excluded.add(type);
+        return this;
+    }
+
+    public boolean isExcluded(Class<?> type) {
+        return excluded.contains(type);
+    }
+
+    public Set<Class<?>> getExcluded() {
+        return Collections.unmodifiableSet(excluded);
+    }
+
+    /*==================  启动自检  ==================*/
+
+    /**
+     * 对候选类逐个做往返对比，不一致的类加入排除列表
+     * <p>
+     * 样本由反射 ObjectMapper 按可写属性填充（String、数值、布尔），再分别用两个 ObjectMapper 序列化、
+     * 反序列化后按字节比较输出（文本与二进制格式通用）。
+     * ObjectMapper 未配置 FilterProvider 时两边都使用输出全部属性的过滤器，使请求时才提供过滤器的 @JsonFilter 类也能对比；
+     * 反射 ObjectMapper 自身仍无法往返的类无从验证，同样排除。
+     *
+     * @param fast      注册了本模块的 ObjectMapper，应为目标 ObjectMapper 的 copy()，以免缓存自检期间构建的序列化器
+     * @param reference 除本模块外配置相同的 ObjectMapper
+     * @return 本次新排除的类
+     */
+    public List<Class<?>> selfCheck(ObjectMapper fast, ObjectMapper reference, Collection<Class<?>> types) {
+        List<Class<?>> failed = new ArrayList<>();
+        for (Class<?> type : types) {
+            if (!isCandidate(type) || excluded.contains(type)) {
+                continue;
+            }
+            ObjectWriter referenceWriter = writer(reference);
+            byte[] expected;
+            byte[] expectedRead;
+            Object sample;
+            try {
+                sample = sample(reference, type);
+                expected = referenceWriter.writeValueAsBytes(sample);
+                expectedRead = referenceWriter.writeValueAsBytes(reference.readValue(expected, type));
+            } catch (Exception e) {
+                log.info("字节码访问自检无法对比，{} 回退为反射访问：反射方式无法往返，{}", type.getName(), e.toString());
+                excluded.add(type);
+                failed.add(type);
+                continue;
+            }
+            try {
+                byte[] written = writer(fast).writeValueAsBytes(sample);
+                byte[] read = referenceWriter.writeValueAsBytes(fast.readValue(expected, type));
+                if (Arrays.equals(expected, written) && Arrays.equals(expectedRead, read)) {
+                    continue;
+                }
+                log.warn("字节码访问自检不一致，{} 回退为反射访问：期望 {} / {}，实际 {} / {}", type.getName(),
+                        render(fast, expected), render(fast, expectedRead), render(fast, written), render(fast, read));
+            } catch (Exception e) {
+                log.warn("字节码访问自检失败，{} 回退为反射访问：{}", type.getName(), e.toString());
+            }
+            excluded.add(type);
+            failed.add(type);
+        }
+        return failed;
+    }
+
+    /**
+     * 文本格式按 UTF-8 输出，二进制格式（Smile、CBOR）按 Base64 输出
+     */
+    private static String render(ObjectMapper mapper, byte[] content) {
+        return mapper.getFactory().canUseCharArrays()
+                ? new String(content, StandardCharsets.UTF_8) : Base64.getEncoder().encodeToString(content);
+    }
+
+    private static ObjectWriter writer(ObjectMapper mapper) {
+        FilterProvider filters = mapper.getSerializationConfig().getFilterProvider();
+        return mapper.writer(filters != null ? filters : PERMISSIVE_FILTERS);
+    }
+
+    private static boolean isCandidate(Class<?> type) {
+        int modifiers = type.getModifiers();
+        return !type.isInterface() && !type.isEnum() && !type.isAnnotation() && !type.isArray()
+                && !type.isPrimitive() && !Modifier.isAbstract(modifiers)
+                && (type.getEnclosingClass() == null || Modifier.isStatic(modifiers));
+    }
+
+    /**
+     * 按可写属性的类型填充样本值：有无参构造器时先实例化再就地填充（多态类型无需类型标识），否则按属性创建
+     */
+    private static Object sample(ObjectMapper reference, Class<?> type) throws Exception {
+        JavaType javaType = reference.constructType(type);
+        BeanDescription desc = reference.getDeserializationConfig().introspect(javaType);
+        ObjectNode node = reference.createObjectNode();
+        int index = 0;
+        for (BeanPropertyDefinition property : desc.findProperties()) {
+            if (!property.couldDeserialize()) {
+                continue;
+            }
+            Class<?> raw = property.getRawPrimaryType();
+            index++;
+            if (raw == String.class) {
+                node.put(property.getName(), "sample" + index);
+            } else if (raw == boolean.class || raw == Boolean.class) {
+                node.put(property.getName(), true);
+            } else if (raw == int.class || raw == Integer.class || raw == short.class || raw == Short.class
+                    || raw == long.class || raw == Long.class) {
+                node.put(property.getName(), index);
+            } else if (raw == double.class || raw == Double.class || raw == float.class || raw == Float.class) {
+                node.put(property.getName(), index + 0.5);
+            }
+        }
+        Object bean = desc.instantiateBean(true);
+        if (bean == null) {
+            return reference.treeToValue(node, type);
+        }
+        try {
+            return reference.readerForUpdating(bean).readValue(node);
+        } catch (Exception e) {
+            // 个别属性填充失败时以已填充的部分作为样本
+            return bean;
+        }
+    }
+
+    /*==================  按类排除的修改器  ==================*/
+
+    private static final class SelectiveSerializerModifier extends SerializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Set<Class<?>> excluded;
+
+        SelectiveSerializerModifier(Set<Class<?>> excluded) {
+            super(null);
+            this.excluded = excluded;
+        }
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                         List<BeanPropertyWriter> beanProperties) {
+            if (excluded.contains(beanDesc.getBeanClass())) {
+                return beanProperties;
+            }
+            return super.changeProperties(config, beanDesc, beanProperties);
+        }
+    }
+
+    private static final class SelectiveDeserializerModifier extends DeserializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Set<Class<?>> excluded;
+
+        SelectiveDeserializerModifier(Set<Class<?>> excluded) {
+            super(null, true);
+            this.excluded = excluded;
+        }
+
+        @Override
+        public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+                                                     BeanDeserializerBuilder builder) {
+            if (excluded.contains(beanDesc.getBeanClass())) {
+                return builder;
+            }
+            return super.updateBuilder(config, beanDesc, builder);
+        }
+    }
+}
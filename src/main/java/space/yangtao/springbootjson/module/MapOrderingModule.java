@@ -0,0 +1,243 @@
+package space.yangtao.springbootjson.module;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.AnyGetterWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerBuilder;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.MapType;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map 按key排序输出的低成本实现，配合（或替代）SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS
+ * <p>
+ * 原生实现对每个非 SortedMap 都拷贝一份 TreeMap；这里改为交给 MapSerializer 一个按key升序迭代的
+ * SortedMap 视图（见 {@link SortedEntries}）：已是 SortedMap 或已按序的 Map 不拷贝，
+ * 其余只拷贝 Entry 引用到线程内复用的数组中排序。输出顺序与 TreeMap 一致。
+ * <p>
+ * 可用 {@link SortMapKeys} 按类型或属性开启/关闭排序，未标注时跟随全局特性；
+ * {@code @JsonAnyGetter} 输出的属性同样适用。
+ *
+ * @author yangtao
+ * @since 2025/8/5 10:40
+ */
+public class MapOrderingModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public MapOrderingModule() {
+        super("MapOrderingModule");
+        setSerializerModifier(new Modifier());
+    }
+
+    /**
+     * 属性上的注解 &gt; 类上的注解，均未标注时返回null
+     */
+    private static Boolean setting(SortMapKeys onProperty, SortMapKeys onType) {
+        SortMapKeys ann = onProperty != null ? onProperty : onType;
+        return ann == null ? null : ann.value();
+    }
+
+    private static boolean shouldSort(Boolean setting, SerializerProvider provider) {
+        return setting != null ? setting : provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * 包装 MapSerializer，并替换 @JsonAnyGetter 的输出器
+     */
+    private static final class Modifier extends BeanSerializerModifier {
+
+        @Override
+        public JsonSerializer<?> modifyMapSerializer(SerializationConfig config, MapType valueType,
+                                                     BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            if (serializer instanceof MapSerializer) {
+                Boolean typeSetting = setting(null, beanDesc.getClassAnnotations().get(SortMapKeys.class));
+                return new OrderedMapSerializer((MapSerializer) serializer, typeSetting, typeSetting);
+            }
+            return serializer;
+        }
+
+        @Override
+        public BeanSerializerBuilder updateBuilder(SerializationConfig config, BeanDescription beanDesc,
+                                                   BeanSerializerBuilder builder) {
+            AnnotatedMember accessor = beanDesc.findAnyGetter();
+            if (builder.getAnyGetter() == null || accessor == null) {
+                return builder;
+            }
+            JavaType anyType = accessor.getType();
+            // 自定义了序列化器或不是Map时保持原样
+            if (!Map.class.isAssignableFrom(anyType.getRawClass())
+                    || config.getAnnotationIntrospector().findSerializer(accessor) != null) {
+                return builder;
+            }
+            // 与 BeanSerializerFactory 构建 any-getter 的方式一致
+            JavaType valueType = anyType.getContentType();
+            TypeSerializer typeSer = BeanSerializerFactory.instance.createTypeSerializer(config, valueType);
+            MapSerializer mapSer = MapSerializer.construct((Set<String>) null, anyType,
+                    config.isEnabled(MapperFeature.USE_STATIC_TYPING), typeSer, null, null, null);
+            BeanProperty.Std property = new BeanProperty.Std(PropertyName.construct(accessor.getName()),
+                    valueType, null, accessor, PropertyMetadata.STD_OPTIONAL);
+            Boolean setting = setting(accessor.getAnnotation(SortMapKeys.class),
+                    beanDesc.getClassAnnotations().get(SortMapKeys.class));
+            builder.setAnyGetter(new OrderedAnyGetterWriter(property, accessor, mapSer, setting));
+            return builder;
+        }
+    }
+
+    /**
+     * 先把 Map 换成有序视图，再交给原 MapSerializer 输出
+     */
+    static final class OrderedMapSerializer extends StdSerializer<Map<?, ?>> implements ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final MapSerializer delegate;
+
+        /**
+         * Map 实现类上的设置，用于上下文化时重新计算
+         */
+        private final Boolean typeSetting;
+
+        /**
+         * 生效的设置，null表示跟随全局特性
+         */
+        private final Boolean setting;
+
+        OrderedMapSerializer(MapSerializer delegate, Boolean typeSetting, Boolean setting) {
+            super(Map.class, false);
+            this.delegate = delegate;
+            this.typeSetting = typeSetting;
+            this.setting = setting;
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            JsonSerializer<?> contextual = delegate.createContextual(provider, property);
+            if (!(contextual instanceof MapSerializer)) {
+                return contextual;
+            }
+            Boolean resolved = typeSetting;
+            if (property != null) {
+                // 属性 > Map 实现类 > 属性所在类
+                resolved = setting(property.getAnnotation(SortMapKeys.class), null);
+                if (resolved == null) {
+                    resolved = typeSetting != null ? typeSetting
+                            : setting(null, property.getContextAnnotation(SortMapKeys.class));
+                }
+            }
+            if (contextual == delegate && Objects.equals(resolved, setting)) {
+                return this;
+            }
+            return new OrderedMapSerializer((MapSerializer) contextual, typeSetting, resolved);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Map<?, ?> value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public void serialize(Map<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeEntries(value, gen, provider);
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(Map<?, ?> value, JsonGenerator gen, SerializerProvider provider,
+                                      TypeSerializer typeSer) throws IOException {
+            // 类型标识按原 Map 计算，不能交给视图
+            gen.setCurrentValue(value);
+            WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+            writeEntries(value, gen, provider);
+            typeSer.writeTypeSuffix(gen, typeId);
+        }
+
+        private void writeEntries(Map<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value.isEmpty()) {
+                return;
+            }
+            Map<?, ?> view = SortedEntries.view(value, shouldSort(setting, provider),
+                    provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+            try {
+                delegate.serializeWithoutTypeInfo(view, gen, provider);
+            } finally {
+                SortedEntries.release(view);
+            }
+        }
+
+        @Override
+        public JsonSerializer<?> getDelegatee() {
+            return delegate;
+        }
+
+        @Override
+        public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
+                throws JsonMappingException {
+            delegate.acceptJsonFormatVisitor(visitor, typeHint);
+        }
+    }
+
+    /**
+     * @JsonAnyGetter 的输出器：Jackson 直接构造 MapSerializer 而不经过 modifyMapSerializer，需单独替换
+     */
+    static final class OrderedAnyGetterWriter extends AnyGetterWriter {
+
+        private final Boolean setting;
+
+        OrderedAnyGetterWriter(BeanProperty property, AnnotatedMember accessor, MapSerializer serializer,
+                               Boolean setting) {
+            super(property, accessor, serializer);
+            this.setting = setting;
+        }
+
+        @Override
+        public void getAndSerialize(Object bean, JsonGenerator gen, SerializerProvider provider) throws Exception {
+            if (_mapSerializer == null) {
+                super.getAndSerialize(bean, gen, provider);
+                return;
+            }
+            Object value = _accessor.getValue(bean);
+            if (value == null) {
+                return;
+            }
+            if (!(value instanceof Map)) {
+                provider.reportBadDefinition(_property.getType(), String.format(
+                        "Value returned by 'any-getter' %s() not java.util.Map but %s",
+                        _accessor.getName(), value.getClass().getName()));
+            }
+            Map<?, ?> view = SortedEntries.view((Map<?, ?>) value, shouldSort(setting, provider),
+                    provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+            try {
+                _mapSerializer.serializeWithoutTypeInfo(view, gen, provider);
+            } finally {
+                SortedEntries.release(view);
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package space.yangtao.springbootjson.module;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberOutput;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * 数值精度保护：Long/long 与 BigDecimal 以字符串形式输出，取代逐个注册的 ToStringSerializer
+ * <p>
+ * long 的数字直接写入线程内复用的字符缓冲区后交给生成器，不创建中间字符串；
+ * {@link Mode#JS_SAFE} 模式下只有超出 JavaScript 安全整数范围的值才加引号。
+ * 反序列化同时接受带引号与不带引号的数字，带引号时直接基于解析器字符缓冲区解析。
+ *
+ * @author yangtao
+ * @since 2025/8/2 10:15
+ */
+public class NumberAsStringModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * JavaScript Number.MAX_SAFE_INTEGER
+     */
+    public static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    /**
+     * long 的最大字符数（含负号）
+     */
+    private static final int MAX_LONG_CHARS = 20;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LONG_CHARS]);
+
+    /**
+     * 输出模式
+     */
+    public enum Mode {
+        /**
+         * 所有 long 都输出为字符串（与 ToStringSerializer 一致）
+         */
+        ALWAYS,
+        /**
+         * 只有绝对值超过 2^53-1 的 long 才输出为字符串，其余输出为数字
+         */
+        JS_SAFE
+    }
+
+    private final Mode mode;
+
+    public NumberAsStringModule() {
+        this(Mode.ALWAYS);
+    }
+
+    public NumberAsStringModule(Mode mode) {
+        super("NumberAsStringModule");
+        this.mode = mode == null ? Mode.ALWAYS : mode;
+        LongSerializer longSerializer = new LongSerializer(this.mode);
+        addSerializer(Long.class, longSerializer);
+        addSerializer(Long.TYPE, longSerializer);
+        addSerializer(BigDecimal.class, BigDecimalSerializer.INSTANCE);
+        addDeserializer(Long.class, new LongDeserializer(Long.class));
+        addDeserializer(Long.TYPE, new LongDeserializer(Long.TYPE));
+        addDeserializer(BigDecimal.class, BigDecimalDeserializer.INSTANCE);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /*==================  序列化  ==================*/
+
+    static final class LongSerializer extends StdScalarSerializer<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Mode mode;
+
+        LongSerializer(Mode mode) {
+            super(Long.class);
+            this.mode = mode;
+        }
+
+        @Override
+        public void serialize(Long value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            long v = value;
+            if (mode == Mode.JS_SAFE && v >= -MAX_SAFE_INTEGER && v <= MAX_SAFE_INTEGER) {
+                gen.writeNumber(v);
+                return;
+            }
+            char[] buffer = BUFFER.get();
+            gen.writeString(buffer, 0, NumberOutput.outputLong(v, buffer, 0));
+        }
+    }
+
+    /**
+     * BigDecimal 沿用 toString() 的文本（可能为科学计数法），保持与 ToStringSerializer 输出一致
+     */
+    static final class BigDecimalSerializer extends StdScalarSerializer<BigDecimal> {
+
+        private static final long serialVersionUID = 1L;
+
+        static final BigDecimalSerializer INSTANCE = new BigDecimalSerializer();
+
+        private BigDecimalSerializer() {
+            super(BigDecimal.class);
+        }
+
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.toString());
+        }
+    }
+
+    /*==================  反序列化  ==================*/
+
+    /**
+     * 数字与合法的带引号十进制整数走快速路径，其余情况（空串、非法格式、浮点数、null 等）交给 Jackson 默认实现
+     */
+    static final class LongDeserializer extends StdScalarDeserializer<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JsonDeserializer<?> fallback;
+
+        LongDeserializer(Class<?> type) {
+            super(type);
+            this.fallback = NumberDeserializers.find(type, type.getName());
+        }
+
+        @Override
+        public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return p.getLongValue();
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                char[] chars = p.getTextCharacters();
+                int start = p.getTextOffset();
+                int end = start + p.getTextLength();
+                while (start < end && chars[start] <= ' ') {
+                    start++;
+                }
+                while (end > start && chars[end - 1] <= ' ') {
+                    end--;
+                }
+                if (start < end) {
+                    long result = parseLong(chars, start, end);
+                    if (result != 0 || isZero(chars, start, end)) {
+                        return result;
+                    }
+                }
+            }
+            return (Long) fallback.deserialize(p, ctxt);
+        }
+
+        @Override
+        public Long getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+            return (Long) fallback.getNullValue(ctxt);
+        }
+
+        /**
+         * 解析十进制整数，格式不合法或溢出时返回0（由调用方区分真正的0）
+         */
+        private static long parseLong(char[] chars, int start, int end) {
+            boolean negative = chars[start] == '-';
+            int i = negative || chars[start] == '+' ? start + 1 : start;
+            if (i == end) {
+                return 0;
+            }
+            long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+            long multiplyMin = limit / 10;
+            long result = 0;
+            for (; i < end; i++) {
+                int digit = chars[i] - '0';
+                if (digit < 0 || digit > 9 || result < multiplyMin) {
+                    return 0;
+                }
+                result *= 10;
+                if (result < limit + digit) {
+                    return 0;
+                }
+                result -= digit;
+            }
+            return negative ? result : -result;
+        }
+
+        private static boolean isZero(char[] chars, int start, int end) {
+            int i = chars[start] == '-' || chars[start] == '+' ? start + 1 : start;
+            if (i == end) {
+                return false;
+            }
+            for (; i < end; i++) {
+                if (chars[i] != '0') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    static final class BigDecimalDeserializer extends StdScalarDeserializer<BigDecimal> {
+
+        private static final long serialVersionUID = 1L;
+
+        static final BigDecimalDeserializer INSTANCE = new BigDecimalDeserializer();
+
+        private final JsonDeserializer<?> fallback = NumberDeserializers.find(BigDecimal.class, BigDecimal.class.getName());
+
+        private BigDecimalDeserializer() {
+            super(BigDecimal.class);
+        }
+
+        @Override
+        public BigDecimal deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                return p.getDecimalValue();
+            }
+            if (token != JsonToken.VALUE_STRING) {
+                return (BigDecimal) fallback.deserialize(p, ctxt);
+            }
+            char[] chars = p.getTextCharacters();
+            int start = p.getTextOffset();
+            int end = start + p.getTextLength();
+            while (start < end && chars[start] <= ' ') {
+                start++;
+            }
+            while (end > start && chars[end - 1] <= ' ') {
+                end--;
+            }
+            if (start < end) {
+                try {
+                    return new BigDecimal(chars, start, end - start);
+                } catch (NumberFormatException ignored) {
+                    // 交给默认实现按统一方式报错
+                }
+            }
+            return (BigDecimal) fallback.deserialize(p, ctxt);
+        }
+    }
+}
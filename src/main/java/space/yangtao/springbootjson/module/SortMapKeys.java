@@ -0,0 +1,25 @@
+package space.yangtao.springbootjson.module;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 按类型或属性覆盖 SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS，由 {@link MapOrderingModule} 处理
+ * <p>
+ * 优先级：属性（字段 / getter / @JsonAnyGetter 方法）上的注解 &gt; Map 实现类上的注解 &gt;
+ * 属性所在类上的注解 &gt; 全局特性。
+ *
+ * @author yangtao
+ * @since 2025/8/5 09:40
+ */
+@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SortMapKeys {
+
+    /**
+     * 是否按key排序输出
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,428 @@
+package space.yangtao.springbootjson.module;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * 为 MapSerializer 准备按key升序迭代的 SortedMap 视图，代替 ORDER_MAP_ENTRIES_BY_KEYS 的 TreeMap 拷贝
+ * <p>
+ * MapSerializer 遇到 SortedMap 时不再排序，因此这里返回的视图都实现 SortedMap：
+ * <ul>
+ *     <li>本身就是 SortedMap：原样返回</li>
+ *     <li>迭代顺序已是升序（如按序写入的 LinkedHashMap）：零拷贝包装</li>
+ *     <li>其余：Entry 引用拷入数组后排序；不超过 {@value #POOLED_MAX} 项时数组取自线程内的复用池</li>
+ *     <li>key 含null、不可比较或类型不一致：返回原 Map，由 MapSerializer 按原逻辑处理</li>
+ * </ul>
+ * 视图只在单次序列化期间有效，用完须调用 {@link #release(Map)} 归还数组。
+ *
+ * @author yangtao
+ * @since 2025/8/5 10:10
+ */
+final class SortedEntries {
+
+    /**
+     * 使用复用数组的最大条目数
+     */
+    static final int POOLED_MAX = 256;
+
+    /**
+     * 每个线程保留的数组个数上限（对应嵌套Map的层数）
+     */
+    private static final int POOL_DEPTH = 8;
+
+    private static final ThreadLocal<ArrayDeque<Map.Entry<?, ?>[]>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final Comparator<Map.Entry<?, ?>> BY_KEY = (a, b) -> compare(a.getKey(), b.getKey());
+
+    private SortedEntries() {
+    }
+
+    /**
+     * 按是否排序返回序列化用的视图
+     *
+     * @param sort           是否按key排序
+     * @param featureEnabled ORDER_MAP_ENTRIES_BY_KEYS 是否开启；开启而不需排序时需包装为 SortedMap 以跳过排序
+     */
+    static Map<?, ?> view(Map<?, ?> map, boolean sort, boolean featureEnabled) {
+        if (sort) {
+            return sorted(map);
+        }
+        return featureEnabled ? asIs(map) : map;
+    }
+
+    /**
+     * 按key升序迭代的视图
+     */
+    static Map<?, ?> sorted(Map<?, ?> map) {
+        if (map instanceof SortedMap) {
+            return map;
+        }
+        int size = map.size();
+        if (size < 2) {
+            return asIs(map);
+        }
+        boolean pooled = size <= POOLED_MAX;
+        Map.Entry<?, ?>[] entries = pooled ? acquire() : new Map.Entry<?, ?>[size];
+        int count = 0;
+        boolean ascending = true;
+        Class<?> keyType = null;
+        Comparable<Object> previous = null;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            // 并发修改导致条目变多、key不可比较或类型不一致时放弃
+            if (count == entries.length || !(key instanceof Comparable)
+                    || (keyType != null && key.getClass() != keyType)) {
+                recycle(entries, count, pooled);
+                return map;
+            }
+            @SuppressWarnings("unchecked")
+            Comparable<Object> current = (Comparable<Object>) key;
+            if (keyType == null) {
+                keyType = key.getClass();
+            } else if (ascending && previous.compareTo(current) > 0) {
+                ascending = false;
+            }
+            previous = current;
+            entries[count++] = entry;
+        }
+        if (ascending) {
+            recycle(entries, count, pooled);
+            return new AsIsView(map);
+        }
+        Arrays.sort(entries, 0, count, BY_KEY);
+        return new ArrayView(entries, count, pooled);
+    }
+
+    /**
+     * 保持原迭代顺序、仅声明为 SortedMap 的视图
+     */
+    static Map<?, ?> asIs(Map<?, ?> map) {
+        return map instanceof SortedMap ? map : new AsIsView(map);
+    }
+
+    /**
+     * 归还视图占用的复用数组
+     */
+    static void release(Map<?, ?> view) {
+        if (view instanceof ArrayView) {
+            ((ArrayView) view).release();
+        }
+    }
+
+    /*==================  内部方法  ==================*/
+
+    private static Map.Entry<?, ?>[] acquire() {
+        Map.Entry<?, ?>[] entries = POOL.get().pollFirst();
+        return entries != null ? entries : new Map.Entry<?, ?>[POOLED_MAX];
+    }
+
+    private static void recycle(Map.Entry<?, ?>[] entries, int count, boolean pooled) {
+        if (!pooled) {
+            return;
+        }
+        // 清除引用，避免线程持有已序列化完的对象
+        Arrays.fill(entries, 0, count, null);
+        ArrayDeque<Map.Entry<?, ?>[]> pool = POOL.get();
+        if (pool.size() < POOL_DEPTH) {
+            pool.addFirst(entries);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object a, Object b) {
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /*==================  视图  ==================*/
+
+    /**
+     * 只读的 SortedMap；key 按自然顺序，comparator 为null
+     * <p>
+     * subMap / headMap / tailMap 返回按 key 范围过滤的视图，与原视图同样只在单次序列化期间有效
+     */
+    private abstract static class OrderedView extends AbstractMap<Object, Object> implements SortedMap<Object, Object> {
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            return null;
+        }
+
+        @Override
+        public SortedMap<Object, Object> subMap(Object fromKey, Object toKey) {
+            if (compare(fromKey, toKey) > 0) {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            return new RangeView(this, fromKey, true, toKey, true);
+        }
+
+        @Override
+        public SortedMap<Object, Object> headMap(Object toKey) {
+            return new RangeView(this, null, false, toKey, true);
+        }
+
+        @Override
+        public SortedMap<Object, Object> tailMap(Object fromKey) {
+            return new RangeView(this, fromKey, true, null, false);
+        }
+
+        @Override
+        public Object firstKey() {
+            Iterator<Entry<Object, Object>> it = entrySet().iterator();
+            if (!it.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return it.next().getKey();
+        }
+
+        @Override
+        public Object lastKey() {
+            Object last = null;
+            boolean found = false;
+            for (Entry<Object, Object> entry : entrySet()) {
+                last = entry.getKey();
+                found = true;
+            }
+            if (!found) {
+                throw new NoSuchElementException();
+            }
+            return last;
+        }
+    }
+
+    /**
+     * 直接沿用原 Map 的迭代顺序
+     */
+    private static final class AsIsView extends OrderedView {
+
+        private final Map<Object, Object> map;
+
+        @SuppressWarnings("unchecked")
+        AsIsView(Map<?, ?> map) {
+            this.map = (Map<Object, Object>) map;
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        @Override
+        public Object get(Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return map.entrySet();
+        }
+    }
+
+    /**
+     * 按已排序的 Entry 数组迭代
+     */
+    private static final class ArrayView extends OrderedView {
+
+        private Map.Entry<?, ?>[] entries;
+
+        private final int size;
+
+        private final boolean pooled;
+
+        ArrayView(Map.Entry<?, ?>[] entries, int size, boolean pooled) {
+            this.entries = entries;
+            this.size = size;
+            this.pooled = pooled;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object firstKey() {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return entries[0].getKey();
+        }
+
+        @Override
+        public Object lastKey() {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return entries[size - 1].getKey();
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    return new EntryIterator(entries, size);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        void release() {
+            Map.Entry<?, ?>[] released = entries;
+            if (released != null) {
+                entries = null;
+                recycle(released, size, pooled);
+            }
+        }
+    }
+
+    /**
+     * 原视图中 key 落在 [from, to) 内的条目，保持原视图的迭代顺序；hasFrom / hasTo 为 false 表示该侧不设界
+     */
+    private static final class RangeView extends OrderedView {
+
+        private final OrderedView map;
+
+        private final Object from;
+
+        private final boolean hasFrom;
+
+        private final Object to;
+
+        private final boolean hasTo;
+
+        RangeView(OrderedView map, Object from, boolean hasFrom, Object to, boolean hasTo) {
+            if (map instanceof RangeView && (hasFrom && !((RangeView) map).inRange(from, true)
+                    || hasTo && !((RangeView) map).inRange(to, true))) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            this.map = map;
+            this.from = from;
+            this.hasFrom = hasFrom;
+            this.to = to;
+            this.hasTo = hasTo;
+        }
+
+        /**
+         * inclusiveTo 为 true 时允许等于上界，用于检查嵌套视图的边界
+         */
+        private boolean inRange(Object key, boolean inclusiveTo) {
+            return (!hasFrom || compare(key, from) >= 0)
+                    && (!hasTo || (inclusiveTo ? compare(key, to) <= 0 : compare(key, to) < 0));
+        }
+
+        private boolean inRange(Object key) {
+            return inRange(key, false);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return inRange(key) ? map.get(key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return inRange(key) && map.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    return new RangeIterator(map.entrySet().iterator());
+                }
+
+                @Override
+                public int size() {
+                    int count = 0;
+                    for (Iterator<Entry<Object, Object>> it = iterator(); it.hasNext(); it.next()) {
+                        count++;
+                    }
+                    return count;
+                }
+            };
+        }
+
+        private final class RangeIterator implements Iterator<Entry<Object, Object>> {
+
+            private final Iterator<Entry<Object, Object>> source;
+
+            private Entry<Object, Object> next;
+
+            RangeIterator(Iterator<Entry<Object, Object>> source) {
+                this.source = source;
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && source.hasNext()) {
+                    Entry<Object, Object> candidate = source.next();
+                    if (inRange(candidate.getKey())) {
+                        next = candidate;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Entry<Object, Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Entry<Object, Object> result = next;
+                next = null;
+                return result;
+            }
+        }
+    }
+
+    private static final class EntryIterator implements Iterator<Map.Entry<Object, Object>> {
+
+        private final Map.Entry<?, ?>[] entries;
+
+        private final int size;
+
+        private int index;
+
+        EntryIterator(Map.Entry<?, ?>[] entries, int size) {
+            this.entries = entries;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<Object, Object> next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            return (Map.Entry<Object, Object>) entries[index++];
+        }
+    }
+}
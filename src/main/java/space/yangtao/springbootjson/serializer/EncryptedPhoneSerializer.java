@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import space.yangtao.springbootjson.domain.EncryptedPhone;
+import space.yangtao.springbootjson.mask.MaskSerializer;
+import space.yangtao.springbootjson.mask.MaskStrategy;
 
 import java.io.IOException;
 
@@ -13,12 +15,25 @@ import java.io.IOException;
  */
 public class EncryptedPhoneSerializer extends JsonSerializer<EncryptedPhone> {
 
+    private final MaskStrategy strategy;
+
+    public EncryptedPhoneSerializer() {
+        this(MaskStrategy.PHONE);
+    }
+
+    /**
+     * 按指定策略对 originalNum 脱敏，供 {@link space.yangtao.springbootjson.mask.Mask} 标注的属性使用
+     */
+    public EncryptedPhoneSerializer(MaskStrategy strategy) {
+        this.strategy = strategy;
+    }
+
     @Override
     public void serialize(EncryptedPhone value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         if (value == null || value.getOriginalNum() == null) {
             gen.writeNull();
             return;
         }
-        gen.writeString(value.getOriginalNum().replaceAll("(\\d{3})(\\d{4})(\\d{4})", "$1****$3"));
+        MaskSerializer.of(strategy).serialize(value.getOriginalNum(), gen, serializers);
     }
 }
@@ -3,16 +3,20 @@ package space.yangtao.springbootjson.serializer;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import space.yangtao.springbootjson.mask.MaskSerializer;
+import space.yangtao.springbootjson.mask.MaskStrategy;
 
 import java.io.IOException;
 
 /**
+ * 手机号脱敏，等同于 {@code @Mask(strategy = MaskStrategy.PHONE)}
+ *
  * @author yangtao
  * @since 2025/7/13 18:03
  */
 public class PhoneNumberSerializer extends JsonSerializer<String> {
     @Override
     public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        gen.writeString(value.replaceAll("(\\d{3})(\\d{4})(\\d{4})", "$1****$3"));
+        MaskSerializer.of(MaskStrategy.PHONE).serialize(value, gen, serializers);
     }
 }
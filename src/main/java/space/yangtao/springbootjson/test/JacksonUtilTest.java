@@ -13,14 +13,27 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import space.yangtao.springbootjson.config.RoleJsonView;
+import space.yangtao.springbootjson.domain.EncryptedPhone;
+import space.yangtao.springbootjson.module.EnumCode;
+import space.yangtao.springbootjson.module.EnumCodec;
+import space.yangtao.springbootjson.module.EnumCodecTable;
+import space.yangtao.springbootjson.utils.AsyncJsonReader;
+import space.yangtao.springbootjson.utils.JacksonResult;
 import space.yangtao.springbootjson.utils.JacksonUtil;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * @author yangtao
@@ -52,8 +65,11 @@ public class JacksonUtilTest {
 
         @Getter
         @AllArgsConstructor
+        @EnumCodec
         public enum Gender {
+            @EnumCode("M")
             MALE("M"),
+            @EnumCode("F")
             FEMALE("F");
 
             private final String code;
@@ -63,15 +79,10 @@ public class JacksonUtilTest {
                 return code;
             }
 
-            // 反序列化时使用的工厂方法
+            // 反序列化时使用的工厂方法（注册了EnumCodecModule时由模块查表，不再经过这里）
             @JsonCreator
             public static Gender fromValue(String value) {
-                for (Gender gender : values()) {
-                    if (gender.code.equals(value)) {
-                        return gender;
-                    }
-                }
-                return null; // 如果没有匹配的值，返回默认值
+                return EnumCodecTable.of(Gender.class).find(value);
             }
         }
     }
@@ -320,6 +331,158 @@ public class JacksonUtilTest {
         System.out.println(JacksonUtil.isValidJson("{"));
         System.out.println(JacksonUtil.isValidJson(""));
         System.out.println(JacksonUtil.isValidJson(null));
+        System.out.println(JacksonUtil.isValidJson("{} {}"));
+        System.out.println(JacksonUtil.validator().withMaxDepth(2).isValid("[[[1]]]"));
+        System.out.println(JacksonUtil.validator().withMaxElements(3).isValid("[1,2,3]"));
+    }
+
+    @GetMapping("/22")
+    public void test22() {
+        byte[] bytes = JacksonUtil.toJsonBytes(getUserList());
+        try (Stream<User> users = JacksonUtil.streamArray(new ByteArrayInputStream(bytes), User.class)) {
+            users.forEach(System.out::println);
+        }
+    }
+
+    @GetMapping("/23")
+    public void test23() {
+        JacksonResult<User> ok = JacksonUtil.tryParseObject(JacksonUtil.toJsonString(getUser()), User.class);
+        JacksonResult<User> bad = JacksonUtil.tryParseObject("{\"userId\":", User.class);
+        System.out.println(ok);
+        System.out.println(bad.getErrorMessage());
+        System.out.println(bad.orElse(null));
+        System.out.println(JacksonUtil.getFailureCounts());
+    }
+
+    /**
+     * 按 Accept 协商输出格式：application/json、application/x-jackson-smile、application/cbor
+     */
+    @GetMapping("/24")
+    public List<User> test24() {
+        return getUserList();
+    }
+
+    @GetMapping("/25")
+    public void test25() {
+        List<User> users = getUserList();
+        byte[] json = JacksonUtil.toJsonBytes(users);
+        byte[] smile = JacksonUtil.toSmileBytes(users);
+        byte[] cbor = JacksonUtil.toCborBytes(users);
+        System.out.println("json = " + json.length + ", smile = " + smile.length + ", cbor = " + cbor.length);
+        System.out.println(JacksonUtil.parseSmile(smile, new TypeReference<List<User>>() {}));
+        System.out.println(JacksonUtil.parseCbor(cbor, new TypeReference<List<User>>() {}));
+    }
+
+    /**
+     * 边生成边输出：默认JSON数组，Accept: application/x-ndjson 时逐行输出
+     */
+    @GetMapping("/26")
+    public Stream<User> test26(@RequestParam(defaultValue = "1000") int count) {
+        User template = getUser();
+        return IntStream.range(0, count).mapToObj(i -> new User()
+                .setId(template.getId() + i)
+                .setName(template.getName() + i)
+                .setAge(template.getAge())
+                .setActive(i % 2 == 0)
+                .setBalance(template.getBalance())
+                .setBirthday(template.getBirthday())
+                .setCreateTime(template.getCreateTime())
+                .setRoles(template.getRoles())
+                .setGender(template.getGender()));
+    }
+
+    /**
+     * 非阻塞增量读取：把数组切成 7 字节的小块逐块喂入，每个元素解析完成即输出
+     */
+    @GetMapping("/27")
+    public void test27() {
+        byte[] bytes = JacksonUtil.toJsonBytes(getUserList());
+        try (AsyncJsonReader<User> reader = JacksonUtil.newAsyncReader(User.class)) {
+            for (int offset = 0; offset < bytes.length; offset += 7) {
+                reader.feed(bytes, offset, Math.min(7, bytes.length - offset), System.out::println);
+            }
+            reader.end(System.out::println);
+        }
+    }
+
+    /**
+     * 字段投影：?fields=id,name,roles 只返回列出的属性，同时演示 JacksonUtil 的投影序列化
+     */
+    @GetMapping("/28")
+    public List<User> test28() {
+        System.out.println(JacksonUtil.toJsonString(getUser(), "id,name"));
+        return getUserList();
+    }
+
+    /**
+     * 按角色选择视图：认证用户具有 INTERNAL 角色时输出 Internal 视图，否则（包括未认证）输出 Public 视图；
+     * 开启 jackson.view.trust-role-header 并设置 role-header 后，未认证的请求才按该请求头选择
+     */
+    @RoleJsonView
+    @GetMapping("/29")
+    public space.yangtao.springbootjson.domain.User test29() {
+        space.yangtao.springbootjson.domain.User user = new space.yangtao.springbootjson.domain.User()
+                .setId(1001L)
+                .setName("zhangsan")
+                .setActive(true);
+        user.publicField = "public";
+        user.internalField = "internal";
+        return user;
+    }
+
+    /**
+     * JSON Patch：请求体为 RFC 6902 操作数组，如 [{"op":"replace","path":"/name","value":"lisi"}]，直接修改示例用户后返回；
+     * 任一操作失败（如 test 不通过）时已执行的修改全部撤销
+     */
+    @PatchMapping(value = "/30", consumes = "application/json-patch+json")
+    public User test30(@RequestBody String patch) {
+        return JacksonUtil.applyPatchOrThrow(patch, getUser());
+    }
+
+    /**
+     * JSON Merge Patch：请求体为 RFC 7386 合并文档，如 {"age":30,"attributes":{"balance":null}}，null 表示删除
+     */
+    @PatchMapping(value = "/30", consumes = "application/merge-patch+json")
+    public User test30Merge(@RequestBody String patch) {
+        return JacksonUtil.mergePatchOrThrow(patch, getUser());
+    }
+
+    /**
+     * 脱敏：domain.User 的 phone 标注了 @Mask(strategy = PHONE)，输出 "phone":"138****5678"
+     */
+    @GetMapping("/31")
+    public space.yangtao.springbootjson.domain.User test31() {
+        space.yangtao.springbootjson.domain.User user = new space.yangtao.springbootjson.domain.User()
+                .setId(1001L)
+                .setName("zhangsan")
+                .setPhoneNumber("13912345678");
+        user.phone = new EncryptedPhone("13812345678");
+        return user;
+    }
+
+    /**
+     * 对 List 应用 JSON Patch：通过 TypeReference 声明元素类型，如 [{"op":"add","path":"/-","value":{"id":"1004","name":"wangwu"}}]
+     * 新增的元素反序列化为 User；不声明类型时因无法确定元素类型而拒绝
+     */
+    @PatchMapping(value = "/32", consumes = "application/json-patch+json")
+    public List<User> test32(@RequestBody String patch) {
+        return JacksonUtil.applyPatchOrThrow(patch, new ArrayList<>(getUserList()), new TypeReference<List<User>>() {});
+    }
+
+    /**
+     * 流式输出同样按角色选择视图：未认证的请求按 Public 视图逐个输出，不包含 internalField
+     */
+    @RoleJsonView
+    @GetMapping("/33")
+    public Stream<space.yangtao.springbootjson.domain.User> test33(@RequestParam(defaultValue = "3") int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            space.yangtao.springbootjson.domain.User user = new space.yangtao.springbootjson.domain.User()
+                    .setId(1001L + i)
+                    .setName("zhangsan" + i);
+            user.publicField = "public";
+            user.internalField = "internal";
+            return user;
+        });
     }
 
 
@@ -0,0 +1,226 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 非阻塞的增量读取器：按数据到达的顺序喂入任意切分的字节块，每解析出一个完整的值立即交给消费者
+ * <p>
+ * 顶层可以是以空白分隔的多个值（如 NDJSON），也可以是数组：目标类型不是数组或集合时，顶层数组按元素逐个交付。
+ * 未完成的 token 由解析器内部缓存，一个值的 token 暂存在 TokenBuffer 中直到该值结束，
+ * 因此不会缓存整个请求体，feed 也从不阻塞等待数据，可在 NIO 的 I/O 线程上直接调用。
+ * 每个值独立反序列化，对象标识（@JsonIdentityInfo）的引用不能跨值解析。
+ * <p>
+ * 语法错误、某个值反序列化失败或消费者抛出异常时关闭读取器。非线程安全，同一时刻只能由一个线程调用。
+ *
+ * @author yangtao
+ * @since 2025/8/9 10:30
+ */
+public final class AsyncJsonReader<T> implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncJsonReader.class);
+
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private final ObjectReader reader;
+
+    private final ObjectMapper codec;
+
+    /**
+     * 顶层数组是否按元素交付
+     */
+    private final boolean unwrapArray;
+
+    /**
+     * 当前位于顶层数组内
+     */
+    private boolean inArray;
+
+    /**
+     * 当前值已读到的 token，值之间为 null
+     */
+    private TokenBuffer value;
+
+    private int depth;
+
+    private long count;
+
+    private byte[] scratch;
+
+    private boolean closed;
+
+    private AsyncJsonReader(JsonParser parser, ObjectReader reader, ObjectMapper codec, boolean unwrapArray) {
+        this.parser = parser;
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.reader = reader;
+        this.codec = codec;
+        this.unwrapArray = unwrapArray;
+    }
+
+    /**
+     * 基于 ObjectMapper 的 JsonFactory 创建非阻塞解析器；目标类型为数组或集合时不展开顶层数组
+     */
+    static <T> AsyncJsonReader<T> open(ObjectMapper mapper, ObjectReader reader) {
+        JavaType type = reader.getValueType();
+        try {
+            JsonParser parser = mapper.getFactory().createNonBlockingByteArrayParser();
+            return new AsyncJsonReader<>(parser, reader, mapper,
+                    !type.isArrayType() && !type.isCollectionLikeType());
+        } catch (IOException e) {
+            throw JacksonUtil.fail(JacksonOperation.PARSE, "创建非阻塞JSON解析器失败", "type", type, e);
+        }
+    }
+
+    /**
+     * 喂入一段字节，返回本次交付的值个数；调用返回后 bytes 可被调用方复用
+     */
+    public int feed(byte[] bytes, int offset, int length, Consumer<? super T> consumer) {
+        ensureOpen();
+        if (length == 0) {
+            return 0;
+        }
+        try {
+            feeder.feedInput(bytes, offset, offset + length);
+        } catch (IOException e) {
+            throw fail(e);
+        }
+        return drain(consumer);
+    }
+
+    /**
+     * 喂入整个字节数组
+     */
+    public int feed(byte[] bytes, Consumer<? super T> consumer) {
+        return feed(bytes, 0, bytes.length, consumer);
+    }
+
+    /**
+     * 喂入 ByteBuffer 中 position 到 limit 之间的内容并推进 position
+     * <p>
+     * 堆内缓冲区直接喂入其底层数组；直接内存缓冲区先复制到读取器内部复用的数组中
+     */
+    public int feed(ByteBuffer buffer, Consumer<? super T> consumer) {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            int emitted = feed(buffer.array(), buffer.arrayOffset() + buffer.position(), length, consumer);
+            buffer.position(buffer.limit());
+            return emitted;
+        }
+        if (scratch == null || scratch.length < length) {
+            scratch = new byte[Math.max(length, 8192)];
+        }
+        buffer.get(scratch, 0, length);
+        return feed(scratch, 0, length, consumer);
+    }
+
+    /**
+     * 声明输入结束，交付剩余的值并关闭读取器，返回本次交付的值个数；输入停在某个值的中途时抛出异常
+     */
+    public int end(Consumer<? super T> consumer) {
+        ensureOpen();
+        feeder.endOfInput();
+        int emitted = drain(consumer);
+        if (value != null || inArray) {
+            throw fail(new IOException("输入在JSON值的中途结束"));
+        }
+        close();
+        return emitted;
+    }
+
+    /**
+     * 已交付的值个数
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            value = null;
+            try {
+                parser.close();
+            } catch (IOException e) {
+                log.debug("关闭非阻塞JSON解析器失败", e);
+            }
+        }
+    }
+
+    /**
+     * 读取当前已喂入数据中所有可用的 token，遇到 NOT_AVAILABLE 时返回
+     */
+    private int drain(Consumer<? super T> consumer) {
+        int emitted = 0;
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (value == null) {
+                    if (token == JsonToken.START_ARRAY && unwrapArray && !inArray) {
+                        inArray = true;
+                        continue;
+                    }
+                    if (token == JsonToken.END_ARRAY && inArray) {
+                        inArray = false;
+                        continue;
+                    }
+                    value = new TokenBuffer(parser);
+                }
+                value.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                if (depth == 0) {
+                    T result = read(value);
+                    value = null;
+                    count++;
+                    emitted++;
+                    consumer.accept(result);
+                }
+            }
+        } catch (IOException e) {
+            throw fail(e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        return emitted;
+    }
+
+    private T read(TokenBuffer tokens) throws IOException {
+        try (JsonParser p = tokens.asParser(codec)) {
+            return reader.readValue(p);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("非阻塞JSON读取器已关闭");
+        }
+    }
+
+    private JacksonUtil.JacksonException fail(IOException e) {
+        close();
+        return JacksonUtil.fail(JacksonOperation.PARSE, "非阻塞读取第" + count + "个值（下标从0开始）失败", "index", count, e);
+    }
+}
@@ -0,0 +1,96 @@
+package space.yangtao.springbootjson.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 直接写入 ByteBuffer 的输出流，供 JacksonUtil.writeTo 使用
+ * <p>
+ * 从 position 开始写入并推进 position。空间不足时，可扩容的流改为写入一个容量翻倍的新缓冲区
+ * （保持堆内/直接内存属性，并复制 0 到 position 之间已有的内容），原缓冲区的 position 恢复为写入前的值；
+ * 不可扩容的流抛出 {@link Overflow}。
+ * 非线程安全。
+ *
+ * @author yangtao
+ * @since 2025/8/7 15:20
+ */
+final class ByteBufferOutputStream extends OutputStream {
+
+    private ByteBuffer buffer;
+
+    private final boolean growable;
+
+    private final int start;
+
+    ByteBufferOutputStream(ByteBuffer buffer, boolean growable) {
+        this.buffer = buffer;
+        this.growable = growable;
+        this.start = buffer.position();
+    }
+
+    /**
+     * 当前写入的缓冲区，扩容后与传入的不是同一个对象
+     */
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * 本次写入的字节数
+     */
+    int written() {
+        return buffer.position() - start;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureRemaining(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureRemaining(len);
+        buffer.put(b, off, len);
+    }
+
+    private void ensureRemaining(int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return;
+        }
+        if (!growable) {
+            throw new Overflow();
+        }
+        long required = (long) buffer.position() + needed;
+        if (required > Integer.MAX_VALUE) {
+            throw new IOException("输出超出 ByteBuffer 的最大容量");
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(required, (long) buffer.capacity() << 1));
+        ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        grown.order(buffer.order());
+        ByteBuffer written = buffer.duplicate();
+        written.flip();
+        grown.put(written);
+        // 扩容前已写入原缓冲区的部分只保留在新缓冲区里，原缓冲区退回写入前的 position
+        buffer.position(start);
+        buffer = grown;
+    }
+
+    /**
+     * 不可扩容时空间不足；属于 IOException，可以原样穿过 Jackson 的异常包装；不填充堆栈
+     */
+    static final class Overflow extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        Overflow() {
+            super("ByteBuffer 剩余空间不足", null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
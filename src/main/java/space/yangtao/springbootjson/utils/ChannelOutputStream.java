@@ -0,0 +1,50 @@
+package space.yangtao.springbootjson.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 写入 WritableByteChannel 的输出流，供 JacksonUtil.writeTo 使用
+ * <p>
+ * 直接包装生成器交来的字节数组写入通道，不额外复制；统计写入的字节数，关闭时不关闭通道。
+ * 通道须为阻塞模式，非阻塞的 SelectableChannel 在构造时拒绝。非线程安全。
+ *
+ * @author yangtao
+ * @since 2025/8/7 15:40
+ */
+final class ChannelOutputStream extends OutputStream {
+
+    private final WritableByteChannel channel;
+
+    private long written;
+
+    ChannelOutputStream(WritableByteChannel channel) {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("不支持非阻塞模式的通道");
+        }
+        this.channel = channel;
+    }
+
+    /**
+     * 已写入通道的字节数
+     */
+    long written() {
+        return written;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ByteBuffer src = ByteBuffer.wrap(b, off, len);
+        while (src.hasRemaining()) {
+            written += channel.write(src);
+        }
+    }
+}
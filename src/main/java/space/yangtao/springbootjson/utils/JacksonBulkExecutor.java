@@ -0,0 +1,191 @@
+package space.yangtao.springbootjson.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 批量操作的执行器：元素个数不足阈值时顺序执行，否则按分块在 ForkJoinPool 上并行执行
+ * <p>
+ * 结果与输入一一对应、顺序一致；单个元素失败只记录在对应的 {@link JacksonResult} 中，不影响其他元素。
+ * 专用线程池按进行中的批量操作计数，{@link #shutdown()} 后等最后一个操作结束才真正关闭；
+ * 关闭之后才开始的操作改为在调用线程上顺序执行。
+ *
+ * @author yangtao
+ * @since 2025/8/9 15:20
+ */
+final class JacksonBulkExecutor {
+
+    private final JacksonBulkPolicy policy;
+
+    private final ForkJoinPool pool;
+
+    private final boolean dedicated;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile boolean retired;
+
+    JacksonBulkExecutor(JacksonBulkPolicy policy) {
+        this.policy = policy;
+        this.dedicated = policy.getParallelism() > 0;
+        this.pool = dedicated ? newPool(policy.getParallelism()) : ForkJoinPool.commonPool();
+    }
+
+    JacksonBulkPolicy policy() {
+        return policy;
+    }
+
+    ForkJoinPool pool() {
+        return pool;
+    }
+
+    /**
+     * 对每个元素执行操作，返回与输入顺序一致的结果
+     */
+    <S, R> List<JacksonResult<R>> apply(List<? extends S> items, JacksonOperation operation, String message,
+                                        JacksonFailureRecorder failures, BulkCall<S, R> call) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        @SuppressWarnings("unchecked")
+        JacksonResult<R>[] results = new JacksonResult[items.size()];
+        Batch<S, R> batch = new Batch<>(items, results, operation, message, failures, call);
+        if (items.size() < policy.getSequentialThreshold() || !enter()) {
+            batch.run(0, items.size());
+        } else {
+            try {
+                int chunk = Math.max(Math.max(1, policy.getMinChunkSize()),
+                        (items.size() + pool.getParallelism() * 4 - 1) / (pool.getParallelism() * 4));
+                pool.invoke(new ChunkTask<>(batch, 0, items.size(), chunk));
+            } finally {
+                exit();
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * 停用专用线程池：没有进行中的操作时立即关闭，否则由最后一个结束的操作关闭；公共 ForkJoinPool 不受影响
+     */
+    void shutdown() {
+        if (dedicated) {
+            retired = true;
+            if (inFlight.get() == 0) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * 登记一个并行操作；已停用时返回 false。先计数再检查停用标记，与 shutdown 的先标记再检查计数
+     * 配合，保证两者至少有一方看到对方，不会在操作进行中关闭线程池
+     */
+    private boolean enter() {
+        inFlight.incrementAndGet();
+        if (retired) {
+            exit();
+            return false;
+        }
+        return true;
+    }
+
+    private void exit() {
+        if (inFlight.decrementAndGet() == 0 && retired) {
+            pool.shutdown();
+        }
+    }
+
+    private static ForkJoinPool newPool(int parallelism) {
+        AtomicInteger index = new AtomicInteger();
+        return new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("jackson-bulk-" + index.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 单个元素的操作
+     */
+    @FunctionalInterface
+    interface BulkCall<S, R> {
+        R apply(S item) throws Exception;
+    }
+
+    /**
+     * 一次批量操作的输入、输出与失败记录方式
+     */
+    private static final class Batch<S, R> {
+
+        private final List<? extends S> items;
+
+        private final JacksonResult<R>[] results;
+
+        private final JacksonOperation operation;
+
+        private final String message;
+
+        private final JacksonFailureRecorder failures;
+
+        private final BulkCall<S, R> call;
+
+        Batch(List<? extends S> items, JacksonResult<R>[] results, JacksonOperation operation, String message,
+              JacksonFailureRecorder failures, BulkCall<S, R> call) {
+            this.items = items;
+            this.results = results;
+            this.operation = operation;
+            this.message = message;
+            this.failures = failures;
+            this.call = call;
+        }
+
+        void run(int from, int to) {
+            for (int i = from; i < to; i++) {
+                try {
+                    results[i] = JacksonResult.success(call.apply(items.get(i)));
+                } catch (Exception e) {
+                    results[i] = JacksonResult.failure(failures.failQuietly(operation,
+                            message + "，下标 = " + i, e));
+                }
+            }
+        }
+    }
+
+    /**
+     * 二分拆分区间，直到不超过分块大小
+     */
+    private static final class ChunkTask<S, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Batch<S, R> batch;
+
+        private final int from;
+
+        private final int to;
+
+        private final int chunk;
+
+        ChunkTask(Batch<S, R> batch, int from, int to, int chunk) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                batch.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask<>(batch, from, middle, chunk), new ChunkTask<>(batch, middle, to, chunk));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package space.yangtao.springbootjson.utils;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * JacksonUtil 批量操作（toJsonStrings、parseAll、convertAll 等）的并行策略
+ * <p>
+ * 可通过 {@code jackson.util.bulk.*} 配置，例如：
+ * <pre>
+ * jackson.util.bulk.parallelism=8
+ * jackson.util.bulk.sequential-threshold=1024
+ * jackson.util.bulk.min-chunk-size=128
+ * </pre>
+ *
+ * @author yangtao
+ * @since 2025/8/9 15:10
+ */
+@Data
+@Accessors(chain = true)
+public class JacksonBulkPolicy {
+
+    /**
+     * 并行度，小于等于0表示使用公共 ForkJoinPool，否则使用该并行度的专用 ForkJoinPool
+     */
+    private int parallelism = 0;
+
+    /**
+     * 元素个数小于该值时在调用线程上顺序执行
+     */
+    private int sequentialThreshold = 1024;
+
+    /**
+     * 每个分块至少包含的元素个数；分块大小按 元素个数 / (并行度 × 4) 计算，不小于该值
+     */
+    private int minChunkSize = 128;
+
+}
@@ -0,0 +1,43 @@
+package space.yangtao.springbootjson.utils;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * JacksonUtil 失败处理策略
+ * <p>
+ * 可通过 {@code jackson.util.failure.*} 配置，例如：
+ * <pre>
+ * jackson.util.failure.max-logs-per-second=5
+ * jackson.util.failure.max-payload-length=256
+ * jackson.util.failure.log-stack-trace=false
+ * </pre>
+ *
+ * @author yangtao
+ * @since 2025/7/30 10:12
+ */
+@Data
+@Accessors(chain = true)
+public class JacksonFailurePolicy {
+
+    /**
+     * 是否记录失败日志
+     */
+    private boolean logEnabled = true;
+
+    /**
+     * 失败日志是否输出异常堆栈，关闭后只输出异常摘要
+     */
+    private boolean logStackTrace = true;
+
+    /**
+     * 每种操作每秒最多输出的失败日志条数，小于等于0表示不限制；超出部分只计数，在下一条日志中汇总
+     */
+    private int maxLogsPerSecond = 10;
+
+    /**
+     * 日志中输出的入参最大长度（字符串为字符数，字节数组为字节数），超出部分截断
+     */
+    private int maxPayloadLength = 512;
+
+}
@@ -0,0 +1,212 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 按 {@link JacksonFailurePolicy} 记录 JacksonUtil 的失败：计数、限流输出日志、截断入参
+ *
+ * @author yangtao
+ * @since 2025/7/30 10:30
+ */
+final class JacksonFailureRecorder {
+
+    private final Logger log;
+
+    /**
+     * 渲染 Bean、集合等入参使用的 mapper，尚未注入时为 null
+     */
+    private final Supplier<ObjectMapper> mapper;
+
+    private volatile JacksonFailurePolicy policy = new JacksonFailurePolicy();
+
+    private final EnumMap<JacksonOperation, Counter> counters = new EnumMap<>(JacksonOperation.class);
+
+    JacksonFailureRecorder(Logger log, Supplier<ObjectMapper> mapper) {
+        this.log = log;
+        this.mapper = mapper;
+        for (JacksonOperation operation : JacksonOperation.values()) {
+            counters.put(operation, new Counter());
+        }
+    }
+
+    JacksonFailurePolicy getPolicy() {
+        return policy;
+    }
+
+    void setPolicy(JacksonFailurePolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * 记录一次需要抛出的失败：计数并按策略输出日志，返回包装后的异常
+     */
+    JacksonUtil.JacksonException fail(JacksonOperation operation, String message, String label, Object payload, Exception e) {
+        Counter counter = counters.get(operation);
+        counter.failures.increment();
+        JacksonFailurePolicy current = policy;
+        if (current.isLogEnabled() && log.isErrorEnabled()) {
+            long suppressed = counter.tryAcquire(current.getMaxLogsPerSecond());
+            if (suppressed >= 0) {
+                String detail = abbreviate(payload, current.getMaxPayloadLength());
+                if (suppressed > 0) {
+                    message = message + "（此前另有" + suppressed + "条同类失败日志被限流）";
+                }
+                if (current.isLogStackTrace()) {
+                    log.error("{}，{} = {}", message, label, detail, e);
+                } else {
+                    log.error("{}，{} = {}，异常：{}", message, label, detail, e.toString());
+                }
+            }
+        }
+        return new JacksonUtil.JacksonException(message, e);
+    }
+
+    /**
+     * 记录一次静默失败（tryXxx 系列）：只计数，不输出日志，返回不带堆栈的异常
+     */
+    JacksonUtil.JacksonException failQuietly(JacksonOperation operation, String message, Exception e) {
+        counters.get(operation).failures.increment();
+        return new JacksonUtil.JacksonException(message, e, false);
+    }
+
+    /**
+     * 各操作的累计失败次数
+     */
+    Map<JacksonOperation, Long> snapshot() {
+        Map<JacksonOperation, Long> result = new EnumMap<>(JacksonOperation.class);
+        counters.forEach((operation, counter) -> result.put(operation, counter.failures.sum()));
+        return result;
+    }
+
+    /**
+     * 截断日志中的入参，只渲染前 maxLength 个字符，不会先生成完整的字符串再截断：
+     * 字符串取子序列，字节数组只解码前缀，数字、布尔、枚举、时间等简单值取 toString；
+     * 其他对象（Bean、集合、数组）经 mapper 写出到限长的 Writer，写满即中止，同时遵循 @JsonIgnore 等配置；
+     * mapper 尚未注入时只输出类名与标识哈希
+     */
+    String abbreviate(Object payload, int maxLength) {
+        int limit = Math.max(maxLength, 0);
+        if (payload == null) {
+            return "null";
+        }
+        if (payload instanceof byte[]) {
+            byte[] bytes = (byte[]) payload;
+            int length = Math.min(bytes.length, limit);
+            String text = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            return length < bytes.length
+                    ? "byte[" + bytes.length + "] " + text + "...(已截断)"
+                    : "byte[" + bytes.length + "] " + text;
+        }
+        if (payload instanceof CharSequence || isSimple(payload)) {
+            CharSequence text = payload instanceof CharSequence ? (CharSequence) payload : payload.toString();
+            if (text.length() <= limit) {
+                return text.toString();
+            }
+            return text.subSequence(0, limit) + "...(共" + text.length() + "字符，已截断)";
+        }
+        ObjectMapper current = mapper.get();
+        if (current == null) {
+            return payload.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(payload));
+        }
+        LimitedWriter out = new LimitedWriter(limit);
+        try {
+            current.writeValue(out, payload);
+            return out.toString();
+        } catch (Exception e) {
+            return out.full ? out + "...(已截断)" : out + "...(写出中断：" + e.getClass().getSimpleName() + ")";
+        }
+    }
+
+    private static boolean isSimple(Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof TemporalAccessor || value instanceof Date
+                || value instanceof UUID || value instanceof Class;
+    }
+
+    /**
+     * 写满 limit 个字符后抛出 IOException 中止写出
+     */
+    private static final class LimitedWriter extends Writer {
+
+        private final StringBuilder text = new StringBuilder();
+
+        private final int limit;
+
+        private boolean full;
+
+        LimitedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int room = limit - text.length();
+            if (length > room) {
+                text.append(chars, offset, room);
+                full = true;
+                throw new IOException("入参超过 " + limit + " 个字符");
+            }
+            text.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+    /**
+     * 单个操作的失败计数与日志限流窗口（1秒）
+     */
+    private static final class Counter {
+
+        private final LongAdder failures = new LongAdder();
+
+        private final AtomicLong window = new AtomicLong();
+
+        private final AtomicInteger permits = new AtomicInteger();
+
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /**
+         * 尝试获取日志许可，成功返回此前被限流的条数，失败返回-1
+         */
+        long tryAcquire(int maxPerSecond) {
+            if (maxPerSecond <= 0) {
+                return suppressed.getAndSet(0);
+            }
+            long current = System.currentTimeMillis() / 1000;
+            long last = window.get();
+            if (current != last && window.compareAndSet(last, current)) {
+                permits.set(0);
+            }
+            if (permits.incrementAndGet() <= maxPerSecond) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
+}
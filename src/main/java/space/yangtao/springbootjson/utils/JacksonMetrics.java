@@ -0,0 +1,329 @@
+package space.yangtao.springbootjson.utils;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * JacksonUtil 各操作按目标类型统计的耗时、字节数与成功/失败次数
+ * <p>
+ * 按类型查找统计项使用 ClassValue，计数使用 LongAdder，耗时直方图按 2 的幂划分微秒区间，
+ * 记录路径上没有锁，也没有共享的热点计数器。字节数只统计 String（按字符数）与 byte[] 形式的输入或输出。
+ * 关闭后记录方法直接返回，不再读取时钟。
+ *
+ * @author yangtao
+ * @since 2025/8/10 10:20
+ */
+public final class JacksonMetrics {
+
+    /**
+     * 直方图区间个数：第0个区间为 [0, 1)μs，第 i 个区间为 [2^(i-1), 2^i)μs，最后一个区间不设上限
+     */
+    public static final int BUCKETS = 26;
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private static final int OPERATIONS = JacksonOperation.values().length;
+
+    private final Queue<TypeStats> types = new ConcurrentLinkedQueue<>();
+
+    private final ClassValue<TypeStats> byType = new ClassValue<TypeStats>() {
+        @Override
+        protected TypeStats computeValue(Class<?> type) {
+            TypeStats stats = new TypeStats(type);
+            types.add(stats);
+            return stats;
+        }
+    };
+
+    private volatile boolean enabled = true;
+
+    JacksonMetrics() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /*==================  记录  ==================*/
+
+    /**
+     * 操作开始时调用，关闭统计时不读取时钟
+     */
+    long start() {
+        return enabled ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * 记录一次成功并原样返回结果；字节数优先取 payload（反序列化的输入），payload 不是 String/byte[] 时取 result。
+     * 序列化时传入的 payload 应为null，字节数取输出，否则序列化一个 String 会记成输入的长度
+     */
+    <R> R success(JacksonOperation operation, Class<?> type, long start, Object payload, R result) {
+        if (start != NOT_STARTED) {
+            long size = sizeOf(payload);
+            success(operation, type, start, size >= 0 ? size : sizeOf(result));
+        }
+        return result;
+    }
+
+    /**
+     * 记录一次成功，size 小于0表示字节数未知
+     */
+    void success(JacksonOperation operation, Class<?> type, long start, long size) {
+        if (start != NOT_STARTED) {
+            stats(operation, type).recordSuccess(System.nanoTime() - start, size);
+        }
+    }
+
+    void failure(JacksonOperation operation, Class<?> type, long start) {
+        if (start != NOT_STARTED) {
+            stats(operation, type).recordFailure(System.nanoTime() - start);
+        }
+    }
+
+    private static long sizeOf(Object value) {
+        if (value instanceof String) {
+            return ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        return -1;
+    }
+
+    private OperationStats stats(JacksonOperation operation, Class<?> type) {
+        return byType.get(type == null ? Void.class : type).get(operation);
+    }
+
+    /*==================  快照  ==================*/
+
+    /**
+     * 所有有记录的（操作, 类型）组合，按总耗时从高到低排列
+     */
+    public List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>();
+        for (TypeStats stats : types) {
+            for (int i = 0; i < OPERATIONS; i++) {
+                OperationStats operation = stats.operations.get(i);
+                if (operation != null) {
+                    Entry entry = operation.snapshot(stats.type, JacksonOperation.values()[i]);
+                    if (entry.getCount() + entry.getFailures() > 0) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return entries;
+    }
+
+    /**
+     * 总耗时最高的 n 项
+     */
+    public List<Entry> topByTime(int n) {
+        return snapshot().stream().limit(Math.max(0, n)).collect(Collectors.toList());
+    }
+
+    /**
+     * 总字节数最多的 n 项
+     */
+    public List<Entry> topByBytes(int n) {
+        return snapshot().stream()
+                .filter(entry -> entry.getBytes() > 0)
+                .sorted(Comparator.comparingLong(Entry::getBytes).reversed())
+                .limit(Math.max(0, n))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 清零所有统计；与并发的记录之间不保证原子性
+     */
+    public void reset() {
+        for (TypeStats stats : types) {
+            for (int i = 0; i < OPERATIONS; i++) {
+                OperationStats operation = stats.operations.get(i);
+                if (operation != null) {
+                    operation.reset();
+                }
+            }
+        }
+    }
+
+    /**
+     * 某个（操作, 类型）组合的统计快照，耗时单位为微秒（总耗时为纳秒）
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Entry {
+
+        private final JacksonOperation operation;
+
+        private final String type;
+
+        private final long count;
+
+        private final long failures;
+
+        private final long totalNanos;
+
+        private final double meanMicros;
+
+        private final long maxMicros;
+
+        /**
+         * 50% 分位所在直方图区间的上界
+         */
+        private final long p50Micros;
+
+        /**
+         * 99% 分位所在直方图区间的上界
+         */
+        private final long p99Micros;
+
+        private final long bytes;
+
+        private final long meanBytes;
+
+        /**
+         * 各直方图区间的次数（含失败），见 {@link #BUCKETS}
+         */
+        private final long[] histogram;
+    }
+
+    /*==================  内部统计项  ==================*/
+
+    /**
+     * 一个类型的各操作统计，按操作序号懒创建
+     */
+    private static final class TypeStats {
+
+        private final Class<?> type;
+
+        private final AtomicReferenceArray<OperationStats> operations = new AtomicReferenceArray<>(OPERATIONS);
+
+        TypeStats(Class<?> type) {
+            this.type = type;
+        }
+
+        OperationStats get(JacksonOperation operation) {
+            int index = operation.ordinal();
+            OperationStats stats = operations.get(index);
+            if (stats == null) {
+                operations.compareAndSet(index, null, new OperationStats());
+                stats = operations.get(index);
+            }
+            return stats;
+        }
+    }
+
+    private static final class OperationStats {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final LongAdder bytes = new LongAdder();
+
+        /**
+         * 有字节数的成功次数，用于计算平均字节数
+         */
+        private final LongAdder sized = new LongAdder();
+
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        OperationStats() {
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        void recordSuccess(long nanos, long size) {
+            count.increment();
+            if (size >= 0) {
+                bytes.add(size);
+                sized.increment();
+            }
+            recordTime(nanos);
+        }
+
+        void recordFailure(long nanos) {
+            failures.increment();
+            recordTime(nanos);
+        }
+
+        private void recordTime(long nanos) {
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram[bucket(nanos / 1000)].increment();
+        }
+
+        private static int bucket(long micros) {
+            return micros <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        }
+
+        Entry snapshot(Class<?> type, JacksonOperation operation) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram[i].sum();
+                total += counts[i];
+            }
+            long success = count.sum();
+            long nanos = totalNanos.sum();
+            long byteSum = bytes.sum();
+            long sizedCount = sized.sum();
+            return new Entry(operation, type.getName(), success, failures.sum(), nanos,
+                    total == 0 ? 0 : nanos / 1000.0 / total, maxNanos.get() / 1000,
+                    percentile(counts, total, 0.50), percentile(counts, total, 0.99),
+                    byteSum, sizedCount == 0 ? 0 : byteSum / sizedCount, counts);
+        }
+
+        /**
+         * 分位所在区间的上界（微秒），最后一个区间返回其下界
+         */
+        private static long percentile(long[] counts, long total, double quantile) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i == BUCKETS - 1 ? 1L << (i - 1) : 1L << i;
+                }
+            }
+            return 1L << (BUCKETS - 2);
+        }
+
+        void reset() {
+            count.reset();
+            failures.reset();
+            totalNanos.reset();
+            bytes.reset();
+            sized.reset();
+            maxNanos.reset();
+            for (LongAdder bucket : histogram) {
+                bucket.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package space.yangtao.springbootjson.utils;
+
+/**
+ * JacksonUtil 操作类型，用于失败计数等按操作维度的统计
+ *
+ * @author yangtao
+ * @since 2025/7/30 10:05
+ */
+public enum JacksonOperation {
+
+    /**
+     * 序列化
+     */
+    SERIALIZE,
+
+    /**
+     * 反序列化
+     */
+    PARSE,
+
+    /**
+     * 对象转换
+     */
+    CONVERT,
+
+    /**
+     * 深克隆
+     */
+    CLONE,
+
+    /**
+     * 增量更新
+     */
+    UPDATE,
+
+    /**
+     * 解析为树模型
+     */
+    PARSE_TREE
+
+}
@@ -0,0 +1,965 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BuilderBasedDeserializer;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON Patch（RFC 6902）与 JSON Merge Patch（RFC 7386）的应用引擎：直接在目标对象上按路径读写，不把目标转换为树模型再转回
+ * <p>
+ * 目标可以是 Bean、Map、List、数组或 JsonNode，可以相互嵌套。Bean 的属性按 mapper 的序列化配置读取、
+ * 按反序列化器中的属性写入，因此属性名、别名、@JsonIgnore 与属性级 @JsonDeserialize 都与普通的读写一致；
+ * 补丁中的值只按目标位置的类型反序列化这一小段。
+ * <p>
+ * 语义上的差异：Bean 属性总是存在，remove 把它置为 null（基本类型为默认值）；Java 数组的增删会创建新数组并写回其所在位置；
+ * test 对 JsonNode 按数值相等比较，对其他值先按目标类型转换再用 equals 比较。
+ * <p>
+ * 每次修改都记录撤销信息，任一操作失败时按相反顺序撤销已执行的修改，目标恢复原状后再抛出异常。
+ * Bean 属性的原值优先从字段读取、其次从 getter 读取，经 setter 写回；两者都没有的只写属性不能修改。
+ * 同一目标不能被多个线程同时修改。
+ * <p>
+ * 根的类型默认取目标的运行时类；List、Map 等容器的运行时类不带元素类型，需要时通过 TypeReference 声明，见 {@link RootSlot}。
+ *
+ * @author yangtao
+ * @since 2025/8/12 10:40
+ */
+final class JacksonPatcher {
+
+    /**
+     * JsonNode 数值按值比较，1 与 1.0 视为相等
+     */
+    private static final Comparator<JsonNode> NUMERIC = (a, b) -> a.equals(b)
+            || a.isNumber() && b.isNumber() && a.decimalValue().compareTo(b.decimalValue()) == 0 ? 0 : 1;
+
+    private final JacksonRegistry registry;
+
+    private final ObjectMapper mapper;
+
+    private final JavaType nodeType;
+
+    private final ConcurrentHashMap<Class<?>, BeanAccess> beans = new ConcurrentHashMap<>();
+
+    JacksonPatcher(JacksonRegistry registry) {
+        this.registry = registry;
+        this.mapper = registry.mapper();
+        this.nodeType = registry.type(JsonNode.class);
+    }
+
+    /**
+     * 依次应用各个操作，返回应用后的目标；整体替换根（path 为空）时返回新对象。任一操作失败时撤销全部修改
+     *
+     * @param type 目标的声明类型，为 null 时取运行时类
+     */
+    @SuppressWarnings("unchecked")
+    <T> T apply(JsonPatch patch, T target, JavaType type) {
+        Journal journal = new Journal();
+        RootSlot root = new RootSlot(journal, Objects.requireNonNull(target, "目标对象不能为空"), type);
+        List<JsonPatch.Operation> operations = patch.getOperations();
+        for (int i = 0; i < operations.size(); i++) {
+            JsonPatch.Operation operation = operations.get(i);
+            try {
+                apply(root, operation);
+            } catch (Exception e) {
+                journal.rollback(e);
+                String reason = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                throw new IllegalArgumentException("第" + i + "个操作（" + operation + "）失败：" + reason, e);
+            }
+        }
+        return (T) root.value;
+    }
+
+    /**
+     * 按 RFC 7386 合并：null 表示删除，对象逐成员递归合并，其他值整体替换；目标为 Bean 时未知属性按 FAIL_ON_UNKNOWN_PROPERTIES 处理。
+     * 失败时撤销全部修改
+     *
+     * @param type 目标的声明类型，为 null 时取运行时类
+     */
+    @SuppressWarnings("unchecked")
+    <T> T merge(JsonNode patch, T target, JavaType type) throws IOException {
+        Journal journal = new Journal();
+        RootSlot root = new RootSlot(journal, Objects.requireNonNull(target, "目标对象不能为空"), type);
+        try {
+            merge(root, patch);
+        } catch (IOException | RuntimeException e) {
+            journal.rollback(e);
+            throw e;
+        }
+        return (T) root.value;
+    }
+
+    /*==================  JSON Patch  ==================*/
+
+    private void apply(RootSlot root, JsonPatch.Operation operation) throws IOException {
+        switch (operation.getOp()) {
+            case ADD: {
+                Slot slot = locate(root, operation.pathSegments(), operation.getPath());
+                slot.add(slot.convert(operation.getValue()));
+                break;
+            }
+            case REMOVE:
+                existing(root, operation.pathSegments(), operation.getPath()).remove();
+                break;
+            case REPLACE: {
+                Slot slot = existing(root, operation.pathSegments(), operation.getPath());
+                slot.set(slot.convert(operation.getValue()));
+                break;
+            }
+            case MOVE: {
+                if (operation.getFrom().equals(operation.getPath())) {
+                    existing(root, operation.fromSegments(), operation.getFrom());
+                    break;
+                }
+                Slot source = existing(root, operation.fromSegments(), operation.getFrom());
+                Object value = source.get();
+                source.remove();
+                Slot slot = locate(root, operation.pathSegments(), operation.getPath());
+                slot.add(adapt(value, slot));
+                break;
+            }
+            case COPY: {
+                Slot source = existing(root, operation.fromSegments(), operation.getFrom());
+                Object value = copyOf(source);
+                Slot slot = locate(root, operation.pathSegments(), operation.getPath());
+                slot.add(adapt(value, slot));
+                break;
+            }
+            case TEST: {
+                Slot slot = existing(root, operation.pathSegments(), operation.getPath());
+                if (!matches(slot, operation.getValue())) {
+                    throw new IllegalStateException("值与期望不一致");
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("不支持的操作：" + operation.getOp());
+        }
+    }
+
+    /**
+     * 定位路径的最后一段；中间各段必须存在且不为 null
+     */
+    private Slot locate(RootSlot root, String[] segments, String path) {
+        Slot slot = root;
+        for (String segment : segments) {
+            Object container = slot.get();
+            if (container == null) {
+                throw new IllegalArgumentException("路径不存在：" + path);
+            }
+            slot = child(slot, container, segment);
+            if (slot == null) {
+                throw new IllegalArgumentException("路径不存在：" + path);
+            }
+        }
+        return slot;
+    }
+
+    private Slot existing(RootSlot root, String[] segments, String path) {
+        Slot slot = locate(root, segments, path);
+        if (!slot.exists()) {
+            throw new IllegalArgumentException("路径不存在：" + path);
+        }
+        return slot;
+    }
+
+    /**
+     * 移动的值类型与目标位置不兼容时按目标类型转换
+     */
+    private Object adapt(Object value, Slot slot) {
+        Class<?> raw = slot.type().getRawClass();
+        if (value == null || (raw.isPrimitive() ? ClassUtil.wrapperType(raw) : raw).isInstance(value)) {
+            return value;
+        }
+        return mapper.convertValue(value, slot.type());
+    }
+
+    /**
+     * 深拷贝来源位置的值，按来源位置声明的类型转换以保留泛型信息
+     */
+    private Object copyOf(Slot source) {
+        Object value = source.get();
+        if (value == null || source.type().isPrimitive()) {
+            return value;
+        }
+        if (value instanceof JsonNode) {
+            return ((JsonNode) value).deepCopy();
+        }
+        JavaType type = source.type().isJavaLangObject() ? registry.type(value.getClass()) : source.type();
+        return mapper.convertValue(value, type);
+    }
+
+    private boolean matches(Slot slot, JsonNode expected) throws IOException {
+        Object actual = slot.get();
+        if (actual instanceof JsonNode) {
+            return ((JsonNode) actual).equals(NUMERIC, expected);
+        }
+        return Objects.deepEquals(actual, slot.convert(expected));
+    }
+
+    /*==================  JSON Merge Patch  ==================*/
+
+    private void merge(Slot slot, JsonNode patch) throws IOException {
+        Object current = slot.get();
+        if (!patch.isObject() || current == null || !isMergeable(current)) {
+            slot.set(slot.convert(patch.isObject() ? withoutNulls(patch) : patch));
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            Slot child = child(slot, current, field.getKey());
+            if (child == null) {
+                if (mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+                    throw new IllegalArgumentException("属性不存在：" + field.getKey());
+                }
+                continue;
+            }
+            if (!field.getValue().isNull()) {
+                merge(child, field.getValue());
+            } else if (child.exists()) {
+                child.remove();
+            }
+        }
+    }
+
+    private boolean isMergeable(Object value) {
+        return value instanceof ObjectNode || value instanceof Map || beanAccess(value.getClass()).isBean();
+    }
+
+    /**
+     * 目标不是对象时按 RFC 7386 以空对象为基础合并，结果即去掉 null 成员的补丁
+     */
+    private static JsonNode withoutNulls(JsonNode patch) {
+        ObjectNode result = ((ObjectNode) patch).deepCopy();
+        Iterator<Map.Entry<String, JsonNode>> fields = result.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                fields.remove();
+            } else if (field.getValue().isObject()) {
+                field.setValue(withoutNulls(field.getValue()));
+            }
+        }
+        return result;
+    }
+
+    /*==================  路径定位  ==================*/
+
+    /**
+     * 容器中名为 segment 的位置；Bean 没有该属性时返回 null
+     */
+    private Slot child(Slot parent, Object container, String segment) {
+        if (container instanceof ObjectNode) {
+            return new ObjectNodeSlot(parent.journal, (ObjectNode) container, segment);
+        }
+        if (container instanceof ArrayNode) {
+            ArrayNode array = (ArrayNode) container;
+            return new ArrayNodeSlot(parent.journal, array, index(segment, array.size()));
+        }
+        if (container instanceof JsonNode) {
+            throw new IllegalArgumentException(((JsonNode) container).getNodeType() + " 没有子节点：" + segment);
+        }
+        JavaType type = parent.type().isContainerType() ? parent.type() : registry.type(container.getClass());
+        if (container instanceof Map) {
+            return new MapSlot(parent.journal, uncheckedMap(container), key(type, segment), contentType(type));
+        }
+        if (container instanceof List) {
+            List<Object> list = uncheckedList(container);
+            return new ListSlot(parent.journal, list, index(segment, list.size()), contentType(type));
+        }
+        if (container.getClass().isArray()) {
+            return new ArraySlot(parent, container, index(segment, Array.getLength(container)), contentType(type));
+        }
+        BeanAccess access = beanAccess(container.getClass());
+        if (!access.isBean()) {
+            throw new IllegalArgumentException(container.getClass().getSimpleName() + " 没有属性：" + segment);
+        }
+        Property property = access.find(segment);
+        return property == null ? null : new BeanSlot(parent.journal, container, property);
+    }
+
+    /**
+     * 数组下标：非负整数且无前导零，"-" 表示末尾之后
+     */
+    private static int index(String segment, int size) {
+        if ("-".equals(segment)) {
+            return size;
+        }
+        if (segment.isEmpty() || segment.length() > 1 && segment.charAt(0) == '0') {
+            throw new IllegalArgumentException("数组下标不合法：" + segment);
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (segment.charAt(i) < '0' || segment.charAt(i) > '9') {
+                throw new IllegalArgumentException("数组下标不合法：" + segment);
+            }
+        }
+        try {
+            return Integer.parseInt(segment);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("数组下标越界：" + segment);
+        }
+    }
+
+    private Object key(JavaType mapType, String segment) {
+        JavaType keyType = mapType.getKeyType();
+        if (keyType == null || keyType.isJavaLangObject() || keyType.hasRawClass(String.class)) {
+            return segment;
+        }
+        return mapper.convertValue(segment, keyType);
+    }
+
+    private JavaType contentType(JavaType type) {
+        JavaType content = type.getContentType();
+        return content == null ? registry.type(Object.class) : content;
+    }
+
+    /**
+     * 按 Object 反序列化时 Jackson 自身会产生的值
+     */
+    private static boolean isNatural(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Map || value instanceof List || value instanceof JsonNode;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> uncheckedMap(Object value) {
+        return (Map<Object, Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> uncheckedList(Object value) {
+        return (List<Object>) value;
+    }
+
+    /**
+     * 新建反序列化上下文，用于查找反序列化器或按属性反序列化补丁中的值
+     */
+    private DefaultDeserializationContext newContext(JsonParser parser) {
+        return ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(mapper.getDeserializationConfig(), parser, mapper.getInjectableValues());
+    }
+
+    /*==================  撤销  ==================*/
+
+    /**
+     * 一次 apply / merge 中已执行的修改；失败时按相反顺序撤销，撤销本身出错时附加到原异常上并继续撤销其余修改
+     */
+    private static final class Journal {
+
+        private final ArrayDeque<Undo> entries = new ArrayDeque<>();
+
+        void record(Undo undo) {
+            entries.push(undo);
+        }
+
+        void rollback(Exception cause) {
+            while (!entries.isEmpty()) {
+                try {
+                    entries.pop().run();
+                } catch (Exception e) {
+                    cause.addSuppressed(e);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Undo {
+        void run() throws IOException;
+    }
+
+    /*==================  位置  ==================*/
+
+    /**
+     * 容器中的一个位置；add 在对象上等同 set，在数组上为插入。每次修改都把撤销方式记入 journal
+     */
+    private abstract class Slot {
+
+        final Journal journal;
+
+        Slot(Journal journal) {
+            this.journal = journal;
+        }
+
+        abstract JavaType type();
+
+        abstract boolean exists();
+
+        abstract Object get();
+
+        abstract void set(Object value) throws IOException;
+
+        void add(Object value) throws IOException {
+            set(value);
+        }
+
+        abstract void remove() throws IOException;
+
+        /**
+         * 把补丁中的值反序列化为该位置的类型；JsonNode 位置直接复制，避免多个目标共享同一个补丁节点
+         */
+        Object convert(JsonNode value) throws IOException {
+            if (JsonNode.class.isAssignableFrom(type().getRawClass())) {
+                return value.deepCopy();
+            }
+            return registry.reader(type()).readValue(value);
+        }
+    }
+
+    /**
+     * 根位置；未声明类型时取运行时类。运行时类不带元素类型的 List、Map、Object[] 中已有 Bean 等非 JSON 基本值时拒绝，
+     * 否则新增的元素会被反序列化为 LinkedHashMap 与原有元素混杂
+     */
+    private final class RootSlot extends Slot {
+
+        private Object value;
+
+        private final JavaType type;
+
+        RootSlot(Journal journal, Object value, JavaType type) {
+            super(journal);
+            this.value = value;
+            this.type = type != null ? type : inferType(value);
+        }
+
+        private JavaType inferType(Object value) {
+            JavaType type = registry.type(value.getClass());
+            if (!type.isContainerType() || !contentType(type).isJavaLangObject()) {
+                return type;
+            }
+            Iterable<?> elements = value instanceof Map ? ((Map<?, ?>) value).values()
+                    : value instanceof Iterable ? (Iterable<?>) value
+                    : value instanceof Object[] ? Arrays.asList((Object[]) value) : null;
+            if (elements != null) {
+                for (Object element : elements) {
+                    if (element != null && !isNatural(element)) {
+                        throw new IllegalArgumentException("目标 " + value.getClass().getSimpleName() + " 未声明元素类型且包含 "
+                                + element.getClass().getSimpleName() + "，请通过 TypeReference 指定目标类型");
+                    }
+                }
+            }
+            return type;
+        }
+
+        @Override
+        JavaType type() {
+            return type;
+        }
+
+        @Override
+        boolean exists() {
+            return true;
+        }
+
+        @Override
+        Object get() {
+            return value;
+        }
+
+        @Override
+        void set(Object value) {
+            Object previous = this.value;
+            this.value = value;
+            journal.record(() -> this.value = previous);
+        }
+
+        @Override
+        void remove() {
+            throw new IllegalArgumentException("不能删除根");
+        }
+    }
+
+    private final class BeanSlot extends Slot {
+
+        private final Object bean;
+
+        private final Property property;
+
+        BeanSlot(Journal journal, Object bean, Property property) {
+            super(journal);
+            this.bean = bean;
+            this.property = property;
+        }
+
+        @Override
+        JavaType type() {
+            return property.type;
+        }
+
+        @Override
+        boolean exists() {
+            return true;
+        }
+
+        @Override
+        Object get() {
+            return property.get(bean);
+        }
+
+        @Override
+        void set(Object value) throws IOException {
+            Object previous = property.current(bean);
+            property.set(bean, value);
+            journal.record(() -> property.set(bean, previous));
+        }
+
+        @Override
+        void remove() throws IOException {
+            Class<?> raw = property.type.getRawClass();
+            set(raw.isPrimitive() ? ClassUtil.defaultValue(raw) : null);
+        }
+
+        @Override
+        Object convert(JsonNode value) throws IOException {
+            return property.deserialize(value);
+        }
+    }
+
+    private final class MapSlot extends Slot {
+
+        private final Map<Object, Object> map;
+
+        private final Object key;
+
+        private final JavaType valueType;
+
+        MapSlot(Journal journal, Map<Object, Object> map, Object key, JavaType valueType) {
+            super(journal);
+            this.map = map;
+            this.key = key;
+            this.valueType = valueType;
+        }
+
+        @Override
+        JavaType type() {
+            return valueType;
+        }
+
+        @Override
+        boolean exists() {
+            return map.containsKey(key);
+        }
+
+        @Override
+        Object get() {
+            return map.get(key);
+        }
+
+        @Override
+        void set(Object value) {
+            boolean existed = map.containsKey(key);
+            Object previous = map.put(key, value);
+            journal.record(() -> {
+                if (existed) {
+                    map.put(key, previous);
+                } else {
+                    map.remove(key);
+                }
+            });
+        }
+
+        /**
+         * 撤销时整体恢复，以保留 LinkedHashMap 等的迭代顺序
+         */
+        @Override
+        void remove() {
+            Map<Object, Object> before = new LinkedHashMap<>(map);
+            map.remove(key);
+            journal.record(() -> {
+                map.clear();
+                map.putAll(before);
+            });
+        }
+    }
+
+    private final class ListSlot extends Slot {
+
+        private final List<Object> list;
+
+        private final int index;
+
+        private final JavaType elementType;
+
+        ListSlot(Journal journal, List<Object> list, int index, JavaType elementType) {
+            super(journal);
+            this.list = list;
+            this.index = index;
+            this.elementType = elementType;
+        }
+
+        @Override
+        JavaType type() {
+            return elementType;
+        }
+
+        @Override
+        boolean exists() {
+            return index < list.size();
+        }
+
+        @Override
+        Object get() {
+            return exists() ? list.get(index) : null;
+        }
+
+        @Override
+        void set(Object value) {
+            Object previous = list.set(index, value);
+            journal.record(() -> list.set(index, previous));
+        }
+
+        @Override
+        void add(Object value) {
+            if (index > list.size()) {
+                throw new IllegalArgumentException("数组下标越界：" + index);
+            }
+            list.add(index, value);
+            journal.record(() -> list.remove(index));
+        }
+
+        @Override
+        void remove() {
+            Object previous = list.remove(index);
+            journal.record(() -> list.add(index, previous));
+        }
+    }
+
+    /**
+     * Java 数组长度固定，增删时创建新数组并写回数组所在的位置
+     */
+    private final class ArraySlot extends Slot {
+
+        private final Slot owner;
+
+        private final Object array;
+
+        private final int index;
+
+        private final JavaType componentType;
+
+        ArraySlot(Slot owner, Object array, int index, JavaType componentType) {
+            super(owner.journal);
+            this.owner = owner;
+            this.array = array;
+            this.index = index;
+            this.componentType = componentType;
+        }
+
+        @Override
+        JavaType type() {
+            return componentType;
+        }
+
+        @Override
+        boolean exists() {
+            return index < Array.getLength(array);
+        }
+
+        @Override
+        Object get() {
+            return exists() ? Array.get(array, index) : null;
+        }
+
+        @Override
+        void set(Object value) {
+            Object previous = Array.get(array, index);
+            Array.set(array, index, value);
+            journal.record(() -> Array.set(array, index, previous));
+        }
+
+        @Override
+        void add(Object value) throws IOException {
+            int length = Array.getLength(array);
+            if (index > length) {
+                throw new IllegalArgumentException("数组下标越界：" + index);
+            }
+            Object result = Array.newInstance(array.getClass().getComponentType(), length + 1);
+            System.arraycopy(array, 0, result, 0, index);
+            Array.set(result, index, value);
+            System.arraycopy(array, index, result, index + 1, length - index);
+            owner.set(result);
+        }
+
+        @Override
+        void remove() throws IOException {
+            int length = Array.getLength(array);
+            Object result = Array.newInstance(array.getClass().getComponentType(), length - 1);
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+            owner.set(result);
+        }
+    }
+
+    private final class ObjectNodeSlot extends Slot {
+
+        private final ObjectNode node;
+
+        private final String field;
+
+        ObjectNodeSlot(Journal journal, ObjectNode node, String field) {
+            super(journal);
+            this.node = node;
+            this.field = field;
+        }
+
+        @Override
+        JavaType type() {
+            return nodeType;
+        }
+
+        @Override
+        boolean exists() {
+            return node.has(field);
+        }
+
+        @Override
+        Object get() {
+            return node.get(field);
+        }
+
+        @Override
+        void set(Object value) {
+            JsonNode previous = node.replace(field, (JsonNode) value);
+            journal.record(() -> {
+                if (previous != null) {
+                    node.replace(field, previous);
+                } else {
+                    node.remove(field);
+                }
+            });
+        }
+
+        /**
+         * 撤销时整体恢复，以保留成员顺序
+         */
+        @Override
+        void remove() {
+            Map<String, JsonNode> before = new LinkedHashMap<>();
+            node.fields().forEachRemaining(field -> before.put(field.getKey(), field.getValue()));
+            node.remove(field);
+            journal.record(() -> {
+                node.removeAll();
+                node.setAll(before);
+            });
+        }
+    }
+
+    private final class ArrayNodeSlot extends Slot {
+
+        private final ArrayNode node;
+
+        private final int index;
+
+        ArrayNodeSlot(Journal journal, ArrayNode node, int index) {
+            super(journal);
+            this.node = node;
+            this.index = index;
+        }
+
+        @Override
+        JavaType type() {
+            return nodeType;
+        }
+
+        @Override
+        boolean exists() {
+            return index < node.size();
+        }
+
+        @Override
+        Object get() {
+            return node.get(index);
+        }
+
+        @Override
+        void set(Object value) {
+            JsonNode previous = node.set(index, (JsonNode) value);
+            journal.record(() -> node.set(index, previous));
+        }
+
+        @Override
+        void add(Object value) {
+            if (index > node.size()) {
+                throw new IllegalArgumentException("数组下标越界：" + index);
+            }
+            node.insert(index, (JsonNode) value);
+            journal.record(() -> node.remove(index));
+        }
+
+        @Override
+        void remove() {
+            JsonNode previous = node.remove(index);
+            journal.record(() -> node.insert(index, previous));
+        }
+    }
+
+    /*==================  Bean 属性  ==================*/
+
+    private BeanAccess beanAccess(Class<?> type) {
+        BeanAccess access = beans.get(type);
+        if (access == null) {
+            access = beans.computeIfAbsent(type, BeanAccess::new);
+        }
+        return access;
+    }
+
+    /**
+     * 一个类的可读写属性：读取器来自序列化配置的属性定义，写入器来自已构造的 Bean 反序列化器
+     */
+    private final class BeanAccess {
+
+        private final BeanDeserializerBase deserializer;
+
+        private final Map<String, Property> properties = new HashMap<>();
+
+        BeanAccess(Class<?> raw) {
+            JavaType type = registry.type(raw);
+            JsonDeserializer<Object> found;
+            try {
+                found = newContext(null).findRootValueDeserializer(type);
+            } catch (Exception e) {
+                found = null;
+            }
+            this.deserializer = found instanceof BeanDeserializerBase && !(found instanceof BuilderBasedDeserializer)
+                    ? (BeanDeserializerBase) found : null;
+            if (deserializer == null) {
+                return;
+            }
+            DeserializationConfig config = mapper.getDeserializationConfig();
+            boolean force = config.isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS);
+            Map<String, AnnotatedMember> getters = new HashMap<>();
+            for (BeanPropertyDefinition definition : mapper.getSerializationConfig().introspect(type).findProperties()) {
+                AnnotatedMember accessor = definition.getAccessor();
+                if (accessor != null) {
+                    accessor.fixAccess(force);
+                    getters.put(definition.getName(), accessor);
+                }
+            }
+            // 只用于撤销时读取原值，不作为属性的读取器（只写属性不能被 test / copy / move 读出）
+            Map<String, AnnotatedMember> fields = new HashMap<>();
+            for (BeanPropertyDefinition definition : config.introspect(type).findProperties()) {
+                AnnotatedMember field = definition.getField();
+                if (field != null) {
+                    field.fixAccess(force);
+                    fields.put(definition.getName(), field);
+                }
+            }
+            Iterator<SettableBeanProperty> settable = deserializer.properties();
+            while (settable.hasNext()) {
+                SettableBeanProperty property = settable.next();
+                properties.put(property.getName(), new Property(property.getName(), property.getType(),
+                        getters.remove(property.getName()), fields.get(property.getName()), property));
+            }
+            for (Map.Entry<String, AnnotatedMember> getter : getters.entrySet()) {
+                properties.put(getter.getKey(),
+                        new Property(getter.getKey(), getter.getValue().getType(), getter.getValue(), null, null));
+            }
+        }
+
+        boolean isBean() {
+            return deserializer != null;
+        }
+
+        /**
+         * 按属性名查找，其次按反序列化器中登记的别名查找
+         */
+        Property find(String name) {
+            Property property = properties.get(name);
+            if (property == null) {
+                SettableBeanProperty alias = deserializer.findProperty(name);
+                if (alias != null) {
+                    property = properties.get(alias.getName());
+                }
+            }
+            return property;
+        }
+    }
+
+    private final class Property {
+
+        private final String name;
+
+        private final JavaType type;
+
+        private final AnnotatedMember getter;
+
+        private final AnnotatedMember field;
+
+        private final SettableBeanProperty setter;
+
+        Property(String name, JavaType type, AnnotatedMember getter, AnnotatedMember field, SettableBeanProperty setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.field = field;
+            this.setter = setter;
+        }
+
+        Object get(Object bean) {
+            if (getter == null) {
+                throw new IllegalArgumentException("属性不可读：" + name);
+            }
+            return getter.getValue(bean);
+        }
+
+        /**
+         * 修改前的原值，用于撤销；优先取字段，避免 getter 返回的是加工后的值
+         */
+        Object current(Object bean) {
+            if (setter == null) {
+                throw new IllegalArgumentException("属性不可写：" + name);
+            }
+            AnnotatedMember member = field != null ? field : getter;
+            if (member == null) {
+                throw new IllegalArgumentException("属性无法读取原值，修改后不能撤销：" + name);
+            }
+            return member.getValue(bean);
+        }
+
+        void set(Object bean, Object value) throws IOException {
+            if (setter == null) {
+                throw new IllegalArgumentException("属性不可写：" + name);
+            }
+            setter.set(bean, value);
+        }
+
+        /**
+         * 使用属性自身的反序列化器（含 @JsonDeserialize 指定的）与空值处理
+         */
+        Object deserialize(JsonNode value) throws IOException {
+            if (setter == null) {
+                return registry.reader(type).readValue(value);
+            }
+            try (JsonParser parser = mapper.treeAsTokens(value)) {
+                parser.nextToken();
+                return setter.deserialize(parser, newContext(parser));
+            }
+        }
+    }
+}
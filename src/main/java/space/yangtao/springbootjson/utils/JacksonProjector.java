@@ -0,0 +1,301 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 字段投影：按（类型, 字段列表）编译并缓存只输出指定属性的 ObjectWriter
+ * <p>
+ * 字段列表以逗号分隔，用点号表示嵌套路径，如 {@code id,name,phone.number}；只写父属性时输出其全部子属性。
+ * 路径相对于被投影的值，数组（含根数组）不占路径层级，Map 的键与属性名同等对待。
+ * <p>
+ * 投影使用 mapper 的一份副本：副本中没有声明 @JsonFilter 的 Bean 与 Map 也带上过滤器 ID，
+ * 因此嵌套的普通类型同样可以投影，而原 mapper 的全量序列化路径不受影响。
+ * 每个投影的过滤器持有编译好的路径树，按当前输出上下文查找所在节点，每个属性只需一次哈希查找（嵌套层级各一次）。
+ * <p>
+ * 写出器缓存有容量上限，超出后淘汰最久未使用的一项（近似 LRU：命中只记录访问纪元，淘汰只发生在未命中时）。
+ *
+ * @author yangtao
+ * @since 2025/8/11 10:10
+ */
+final class JacksonProjector {
+
+    /**
+     * 写出器缓存的默认容量上限
+     */
+    static final int DEFAULT_MAX_SIZE = 256;
+
+    /**
+     * 副本中未声明 @JsonFilter 的 Bean 使用的过滤器 ID
+     */
+    private static final String FILTER_ID = "jacksonProjection";
+
+    /**
+     * 投影值嵌在其他值中写出时，记录其所在的输出上下文，路径从这里开始计算
+     */
+    static final String BASE_CONTEXT = JacksonProjector.class.getName() + ".baseContext";
+
+    private final ObjectMapper mapper;
+
+    private final int maxSize;
+
+    private final ConcurrentHashMap<Key, Entry> writers = new ConcurrentHashMap<>();
+
+    /**
+     * 访问纪元，每次未命中加一
+     */
+    private final AtomicLong epoch = new AtomicLong();
+
+    JacksonProjector(ObjectMapper source) {
+        this(source, DEFAULT_MAX_SIZE);
+    }
+
+    JacksonProjector(ObjectMapper source, int maxSize) {
+        this.mapper = source.copy();
+        this.mapper.setAnnotationIntrospectors(
+                AnnotationIntrospector.pair(mapper.getSerializationConfig().getAnnotationIntrospector(),
+                        new ProjectionIntrospector()),
+                mapper.getDeserializationConfig().getAnnotationIntrospector());
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 获取只输出 fields 中属性的写出器；fields 为空白时返回 null
+     */
+    ObjectWriter writer(Class<?> type, String fields) {
+        Key key = new Key(type, fields);
+        Entry entry = writers.get(key);
+        if (entry != null) {
+            entry.touch(epoch.get());
+            return entry.writer;
+        }
+        Node root = compile(fields);
+        if (root == null) {
+            return null;
+        }
+        ObjectWriter writer = mapper.writer(new SimpleFilterProvider().setDefaultFilter(new ProjectionFilter(root)))
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .forType(type);
+        entry = new Entry(writer, epoch.incrementAndGet());
+        Entry existing = writers.putIfAbsent(key, entry);
+        if (existing != null) {
+            return existing.writer;
+        }
+        if (writers.size() > maxSize) {
+            evictOldest();
+        }
+        return writer;
+    }
+
+    int size() {
+        return writers.size();
+    }
+
+    private void evictOldest() {
+        Key oldest = null;
+        long oldestEpoch = Long.MAX_VALUE;
+        for (Map.Entry<Key, Entry> candidate : writers.entrySet()) {
+            long used = candidate.getValue().lastUsed;
+            if (used < oldestEpoch) {
+                oldestEpoch = used;
+                oldest = candidate.getKey();
+            }
+        }
+        if (oldest != null) {
+            writers.remove(oldest);
+        }
+    }
+
+    /*==================  路径树  ==================*/
+
+    /**
+     * 解析字段列表，忽略空白与空的路径段；没有任何字段时返回 null
+     */
+    static Node compile(String fields) {
+        if (fields == null) {
+            return null;
+        }
+        Node root = new Node();
+        for (String path : fields.split(",")) {
+            Node node = root;
+            String[] segments = path.split("\\.");
+            for (int i = 0; i < segments.length && node != Node.ALL; i++) {
+                String segment = segments[i].trim();
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (isLast(segments, i)) {
+                    node.children.put(segment, Node.ALL);
+                } else {
+                    node = node.children.computeIfAbsent(segment, name -> new Node());
+                }
+            }
+        }
+        return root.children.isEmpty() ? null : root;
+    }
+
+    private static boolean isLast(String[] segments, int index) {
+        for (int i = index + 1; i < segments.length; i++) {
+            if (!segments[i].trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 路径树节点；ALL 表示输出全部子属性
+     */
+    static final class Node {
+
+        static final Node ALL = new Node(Collections.emptyMap());
+
+        static final Node NONE = new Node(Collections.emptyMap());
+
+        final Map<String, Node> children;
+
+        Node() {
+            this(new HashMap<>());
+        }
+
+        private Node(Map<String, Node> children) {
+            this.children = children;
+        }
+    }
+
+    /**
+     * 按当前输出上下文在路径树中定位，只输出树中列出的属性
+     */
+    static final class ProjectionFilter extends SimpleBeanPropertyFilter {
+
+        private final Node root;
+
+        ProjectionFilter(Node root) {
+            this.root = root;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            Node node = nodeOf(gen.getOutputContext(), provider.getAttribute(BASE_CONTEXT));
+            if (node == Node.ALL || node.children.containsKey(writer.getName())) {
+                writer.serializeAsField(pojo, gen, provider);
+            } else if (!gen.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, gen, provider);
+            }
+        }
+
+        /**
+         * context 为当前正在写出的对象，跳过外层数组后由其所在的属性名逐级向下查找，到根或 base 为止
+         */
+        private Node nodeOf(JsonStreamContext context, Object base) {
+            JsonStreamContext parent = context.getParent();
+            while (parent != null && parent != base && parent.inArray()) {
+                parent = parent.getParent();
+            }
+            if (parent == null || parent == base || parent.inRoot()) {
+                return root;
+            }
+            Node node = nodeOf(parent, base);
+            if (node == Node.ALL) {
+                return Node.ALL;
+            }
+            Node child = node.children.get(parent.getCurrentName());
+            return child == null ? Node.NONE : child;
+        }
+
+        @Override
+        protected boolean include(BeanPropertyWriter writer) {
+            return true;
+        }
+
+        @Override
+        protected boolean include(PropertyWriter writer) {
+            return true;
+        }
+    }
+
+    /**
+     * 为没有声明 @JsonFilter 的 Bean 与 Map 补上过滤器 ID（Map 按键过滤）；副本的写出器总带有默认过滤器
+     */
+    private static final class ProjectionIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object findFilterId(Annotated annotated) {
+            return annotated instanceof AnnotatedClass ? FILTER_ID : null;
+        }
+    }
+
+    /*==================  缓存项  ==================*/
+
+    private static final class Key {
+
+        private final Class<?> type;
+
+        private final String fields;
+
+        Key(Class<?> type, String fields) {
+            this.type = type;
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return type == key.type && Objects.equals(fields, key.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Objects.hashCode(fields);
+        }
+    }
+
+    private static final class Entry {
+
+        private final ObjectWriter writer;
+
+        private volatile long lastUsed;
+
+        Entry(ObjectWriter writer, long lastUsed) {
+            this.writer = writer;
+            this.lastUsed = lastUsed;
+        }
+
+        /**
+         * 纪元未变化时不写，避免命中路径上的缓存行争用
+         */
+        void touch(long now) {
+            if (lastUsed != now) {
+                lastUsed = now;
+            }
+        }
+    }
+}
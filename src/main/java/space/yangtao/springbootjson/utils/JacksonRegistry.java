@@ -0,0 +1,275 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * JacksonUtil 内部使用的 JavaType / ObjectReader / ObjectWriter 缓存
+ * <p>
+ * 以 Class 或 TypeReference#getType() 为键缓存已解析的类型及预取了根（反）序列化器的读写器，
+ * 避免热点路径上重复构造 CollectionType 与 ObjectWriter。每个缓存都有容量上限，超出后不再缓存、按需创建。
+ * <p>
+ * 读写器在创建时固化了 ObjectMapper 的配置，运行期修改 mapper 配置不会反映到已缓存的实例上。
+ *
+ * @author yangtao
+ * @since 2025/7/28 15:10
+ */
+final class JacksonRegistry {
+
+    /**
+     * 单个缓存的默认容量上限
+     */
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * 输出风格
+     */
+    enum Style {
+        /**
+         * 紧凑输出
+         */
+        COMPACT,
+        /**
+         * 美化输出
+         */
+        PRETTY
+    }
+
+    private final ObjectMapper mapper;
+
+    private final int maxSize;
+
+    private final ConcurrentHashMap<Type, JavaType> types = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Type, JavaType> listTypes = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Type, ObjectReader> listReaders = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Class<?>, ObjectWriter> compactWriters = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Class<?>, ObjectWriter> prettyWriters = new ConcurrentHashMap<>();
+
+    private final ObjectWriter compactWriter;
+
+    private final ObjectWriter prettyWriter;
+
+    private final ObjectWriter streamWriter;
+
+    private final ObjectWriter ndjsonWriter;
+
+    private final ObjectReader treeReader;
+
+    private final JsonValidator validator;
+
+    /**
+     * 各视图的缓存，基于注册了 StaticViewModule 的 mapper 副本
+     */
+    private final ConcurrentHashMap<Class<?>, JacksonRegistry> views = new ConcurrentHashMap<>();
+
+    /**
+     * 字段投影需要复制一份 mapper，首次使用时才创建
+     */
+    private volatile JacksonProjector projector;
+
+    /**
+     * JSON Patch 引擎缓存各类的属性读写器，首次使用时才创建
+     */
+    private volatile JacksonPatcher patcher;
+
+    JacksonRegistry(ObjectMapper mapper) {
+        this(mapper, DEFAULT_MAX_SIZE);
+    }
+
+    JacksonRegistry(ObjectMapper mapper, int maxSize) {
+        this.mapper = mapper;
+        this.maxSize = maxSize;
+        this.compactWriter = mapper.writer();
+        this.prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+        // 由调用方按批次 flush，不在每个元素后 flush
+        this.streamWriter = compactWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.ndjsonWriter = streamWriter.withRootValueSeparator("\n");
+        this.treeReader = mapper.reader();
+        this.validator = JsonValidator.of(mapper.getFactory());
+    }
+
+    /**
+     * 是否基于指定的 ObjectMapper 构建
+     */
+    boolean belongsTo(ObjectMapper mapper) {
+        return this.mapper == mapper;
+    }
+
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    /*==================  类型  ==================*/
+
+    /**
+     * 获取类型对应的 JavaType
+     */
+    JavaType type(Type type) {
+        return get(types, type, t -> typeFactory().constructType(t));
+    }
+
+    /**
+     * 获取 List&lt;元素类型&gt; 对应的 JavaType
+     */
+    JavaType listType(Type elementType) {
+        return get(listTypes, elementType, t -> typeFactory().constructCollectionType(List.class, type(t)));
+    }
+
+    /*==================  读取器  ==================*/
+
+    /**
+     * 获取目标类型的读取器
+     */
+    ObjectReader reader(Type type) {
+        return get(readers, type, t -> mapper.readerFor(type(t)));
+    }
+
+    /**
+     * 获取 List&lt;元素类型&gt; 的读取器
+     */
+    ObjectReader listReader(Type elementType) {
+        return get(listReaders, elementType, t -> mapper.readerFor(listType(t)));
+    }
+
+    /**
+     * 获取用于更新已有对象的读取器
+     */
+    ObjectReader updater(Object target) {
+        return reader(target.getClass()).withValueToUpdate(target);
+    }
+
+    /**
+     * 获取树模型读取器
+     */
+    ObjectReader treeReader() {
+        return treeReader;
+    }
+
+    /**
+     * 获取不做限制的JSON校验器
+     */
+    JsonValidator validator() {
+        return validator;
+    }
+
+    /*==================  写出器  ==================*/
+
+    /**
+     * 获取对象运行时类型对应的写出器
+     */
+    ObjectWriter writer(Object value, Style style) {
+        if (value == null) {
+            return style == Style.PRETTY ? prettyWriter : compactWriter;
+        }
+        return writer(value.getClass(), style);
+    }
+
+    /**
+     * 获取指定类型的写出器
+     */
+    ObjectWriter writer(Class<?> type, Style style) {
+        if (style == Style.PRETTY) {
+            return get(prettyWriters, type, prettyWriter::forType);
+        }
+        return get(compactWriters, type, compactWriter::forType);
+    }
+
+    /**
+     * 获取逐个写出元素的写出器（紧凑、不自动 flush）
+     */
+    ObjectWriter streamWriter() {
+        return streamWriter;
+    }
+
+    /**
+     * 获取 NDJSON 写出器：顶层值之间以换行分隔
+     */
+    ObjectWriter ndjsonWriter() {
+        return ndjsonWriter;
+    }
+
+    /**
+     * 获取固定视图（@JsonView）的缓存：其写出器不设置激活视图，序列化器构造时已去掉该视图不可见的属性
+     * <p>
+     * 每个视图复制一次 mapper，首次使用时创建；视图类型通常是少量常量，不设容量上限
+     */
+    JacksonRegistry view(Class<?> view) {
+        JacksonRegistry registry = views.get(view);
+        if (registry == null) {
+            registry = views.computeIfAbsent(view,
+                    v -> new JacksonRegistry(mapper.copy().registerModule(new StaticViewModule(v)), maxSize));
+        }
+        return registry;
+    }
+
+    /**
+     * 获取字段投影的写出器缓存
+     */
+    JacksonProjector projector() {
+        JacksonProjector result = projector;
+        if (result == null) {
+            synchronized (this) {
+                result = projector;
+                if (result == null) {
+                    projector = result = new JacksonProjector(mapper);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 获取 JSON Patch / Merge Patch 引擎
+     */
+    JacksonPatcher patcher() {
+        JacksonPatcher result = patcher;
+        if (result == null) {
+            synchronized (this) {
+                result = patcher;
+                if (result == null) {
+                    patcher = result = new JacksonPatcher(this);
+                }
+            }
+        }
+        return result;
+    }
+
+    /*==================  内部方法  ==================*/
+
+    private TypeFactory typeFactory() {
+        return mapper.getTypeFactory();
+    }
+
+    /**
+     * 读取缓存，未命中时创建；缓存已满时只创建不缓存
+     */
+    private <K, V> V get(ConcurrentHashMap<K, V> cache, K key, Function<K, V> factory) {
+        V value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = factory.apply(key);
+        if (cache.size() < maxSize) {
+            V existing = cache.putIfAbsent(key, value);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return value;
+    }
+}
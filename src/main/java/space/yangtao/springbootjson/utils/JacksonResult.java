@@ -0,0 +1,93 @@
+package space.yangtao.springbootjson.utils;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * JacksonUtil tryXxx 系列方法的返回结果，失败时携带不含堆栈的异常而不是直接抛出
+ *
+ * @author yangtao
+ * @since 2025/7/30 11:02
+ */
+public final class JacksonResult<T> {
+
+    private final T value;
+
+    private final JacksonUtil.JacksonException error;
+
+    private JacksonResult(T value, JacksonUtil.JacksonException error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T> JacksonResult<T> success(T value) {
+        return new JacksonResult<>(value, null);
+    }
+
+    public static <T> JacksonResult<T> failure(JacksonUtil.JacksonException error) {
+        return new JacksonResult<>(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public boolean isFailure() {
+        return error != null;
+    }
+
+    /**
+     * 成功时的结果（可能为null），失败时为null
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * 失败原因，成功时为null
+     */
+    public JacksonUtil.JacksonException getError() {
+        return error;
+    }
+
+    /**
+     * 失败原因的简要描述，成功时为null
+     */
+    public String getErrorMessage() {
+        if (error == null) {
+            return null;
+        }
+        Throwable cause = error.getCause();
+        return cause == null ? error.getMessage() : error.getMessage() + "：" + cause.getMessage();
+    }
+
+    /**
+     * 成功时返回结果，失败时返回默认值
+     */
+    public T orElse(T defaultValue) {
+        return error == null ? value : defaultValue;
+    }
+
+    /**
+     * 成功时返回结果，失败时抛出异常
+     */
+    public T orElseThrow() {
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+
+    public Optional<T> toOptional() {
+        return error == null ? Optional.ofNullable(value) : Optional.empty();
+    }
+
+    public <R> JacksonResult<R> map(Function<? super T, ? extends R> mapper) {
+        return error == null ? success(mapper.apply(value)) : failure(error);
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "JacksonResult{value=" + value + '}' : "JacksonResult{error=" + getErrorMessage() + '}';
+    }
+}
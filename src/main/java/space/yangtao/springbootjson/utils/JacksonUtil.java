@@ -1,24 +1,48 @@
 package space.yangtao.springbootjson.utils;
 
 import cn.hutool.extra.spring.SpringUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Lazy;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Jackson工具类
@@ -30,8 +54,25 @@ public final class JacksonUtil {
 
     private static volatile ObjectMapper mapper;
 
+    private static volatile JacksonRegistry registry;
+
+    private static final BinaryFormat SMILE = new BinaryFormat("JacksonConfigSmileMapper");
+
+    private static final BinaryFormat CBOR = new BinaryFormat("JacksonConfigCborMapper");
+
     private static final Logger log = LoggerFactory.getLogger(JacksonUtil.class);
 
+    /**
+     * 流式写出时每写出多少个元素 flush 一次
+     */
+    public static final int STREAM_FLUSH_INTERVAL = 256;
+
+    private static final JacksonFailureRecorder failures = new JacksonFailureRecorder(log, () -> mapper);
+
+    private static final JacksonMetrics metrics = new JacksonMetrics();
+
+    private static volatile JacksonBulkExecutor bulk = new JacksonBulkExecutor(new JacksonBulkPolicy());
+
     private JacksonUtil() {
     }
 
@@ -47,13 +88,58 @@ public final class JacksonUtil {
 
         private final ObjectMapper injectedMapper;
 
-        JacksonUtilInitializer(@Qualifier("JacksonConfigObjectMapper") ObjectMapper injectedMapper) {
+        private final ObjectMapper smileMapper;
+
+        private final ObjectMapper cborMapper;
+
+        private final ObjectProvider<JacksonFailurePolicy> failurePolicy;
+
+        private final ObjectProvider<JacksonBulkPolicy> bulkPolicy;
+
+        @Autowired
+        JacksonUtilInitializer(@Qualifier("JacksonConfigObjectMapper") ObjectMapper injectedMapper,
+                               @Qualifier("JacksonConfigSmileMapper") ObjectMapper smileMapper,
+                               @Qualifier("JacksonConfigCborMapper") ObjectMapper cborMapper,
+                               ObjectProvider<JacksonFailurePolicy> failurePolicy,
+                               ObjectProvider<JacksonBulkPolicy> bulkPolicy) {
             this.injectedMapper = injectedMapper;
+            this.smileMapper = smileMapper;
+            this.cborMapper = cborMapper;
+            this.failurePolicy = failurePolicy;
+            this.bulkPolicy = bulkPolicy;
+        }
+
+        JacksonUtilInitializer(ObjectMapper injectedMapper, ObjectMapper smileMapper, ObjectMapper cborMapper) {
+            this(injectedMapper, smileMapper, cborMapper, null, null);
+        }
+
+        @Bean
+        @ConfigurationProperties(prefix = "jackson.util.failure")
+        static JacksonFailurePolicy jacksonFailurePolicy() {
+            return new JacksonFailurePolicy();
+        }
+
+        @Bean
+        @ConfigurationProperties(prefix = "jackson.util.bulk")
+        static JacksonBulkPolicy jacksonBulkPolicy() {
+            return new JacksonBulkPolicy();
         }
 
         @Override
         public void afterPropertiesSet() {
             JacksonUtil.mapper = this.injectedMapper;
+            if (smileMapper != null) {
+                SMILE.mapper = smileMapper;
+            }
+            if (cborMapper != null) {
+                CBOR.mapper = cborMapper;
+            }
+            if (failurePolicy != null) {
+                failurePolicy.ifAvailable(JacksonUtil::setFailurePolicy);
+            }
+            if (bulkPolicy != null) {
+                bulkPolicy.ifAvailable(JacksonUtil::setBulkPolicy);
+            }
         }
     }
 
@@ -63,6 +149,13 @@ public final class JacksonUtil {
         public JacksonException(String msg, Throwable cause) {
             super(msg, cause);
         }
+
+        /**
+         * writableStackTrace 为 false 时不填充堆栈，用于高频失败的轻量路径
+         */
+        public JacksonException(String msg, Throwable cause, boolean writableStackTrace) {
+            super(msg, cause, true, writableStackTrace);
+        }
     }
 
     /**
@@ -79,6 +172,33 @@ public final class JacksonUtil {
         return mapper;
     }
 
+    /**
+     * 获取与当前 ObjectMapper 绑定的读写器缓存，mapper 被替换后自动重建
+     */
+    static JacksonRegistry getRegistry() {
+        ObjectMapper current = getMapper();
+        JacksonRegistry cached = registry;
+        if (cached == null || !cached.belongsTo(current)) {
+            cached = new JacksonRegistry(current);
+            registry = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * 获取 Smile 格式的 ObjectMapper，配置与 {@link #getMapper()} 相同
+     */
+    public static ObjectMapper getSmileMapper() {
+        return SMILE.mapper();
+    }
+
+    /**
+     * 获取 CBOR 格式的 ObjectMapper，配置与 {@link #getMapper()} 相同
+     */
+    public static ObjectMapper getCborMapper() {
+        return CBOR.mapper();
+    }
+
     /*==================  异常处理模板  ==================*/
 
     /**
@@ -88,11 +208,42 @@ public final class JacksonUtil {
         try {
             return supplier.get();
         } catch (Exception e) {
-            log.debug("操作失败，返回默认值，异常信息：", e);
+            // xxxOrThrow 已按失败策略记录过日志，这里不再重复输出堆栈
+            if (log.isDebugEnabled()) {
+                log.debug("操作失败，返回默认值，异常信息：{}", e.toString());
+            }
             return defaultValue;
         }
     }
 
+    /**
+     * 获取当前失败处理策略
+     */
+    public static JacksonFailurePolicy getFailurePolicy() {
+        return failures.getPolicy();
+    }
+
+    /**
+     * 设置失败处理策略（日志限流、堆栈输出、入参截断长度）
+     */
+    public static void setFailurePolicy(JacksonFailurePolicy policy) {
+        failures.setPolicy(policy == null ? new JacksonFailurePolicy() : policy);
+    }
+
+    /**
+     * 各操作的累计失败次数（含 tryXxx 系列）
+     */
+    public static Map<JacksonOperation, Long> getFailureCounts() {
+        return failures.snapshot();
+    }
+
+    /**
+     * 按（操作, 目标类型）统计的耗时、字节数与成功/失败次数，可通过 setEnabled(false) 关闭
+     */
+    public static JacksonMetrics getMetrics() {
+        return metrics;
+    }
+
     /*==================  核心序列化  ==================*/
 
     /**
@@ -106,11 +257,13 @@ public final class JacksonUtil {
      * 对象序列化为JSON字符串（紧凑），如果失败则抛出异常
      */
     public static String toJsonStringOrThrow(Object obj) {
+        long start = metrics.start();
         try {
-            return getMapper().writeValueAsString(obj);
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    getRegistry().writer(obj, JacksonRegistry.Style.COMPACT).writeValueAsString(obj));
         } catch (Exception e) {
-            log.error("对象序列化为JSON字符串（紧凑）失败，obj =  {}", obj, e);
-            throw new JacksonException("对象序列化为JSON字符串（紧凑）失败", e);
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化为JSON字符串（紧凑）失败", "obj", obj, e);
         }
     }
 
@@ -125,11 +278,13 @@ public final class JacksonUtil {
      * 对象序列化为JSON字符串（美化），如果失败则抛出异常
      */
     public static String toPrettyJsonStringOrThrow(Object obj) {
+        long start = metrics.start();
         try {
-            return getMapper().writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    getRegistry().writer(obj, JacksonRegistry.Style.PRETTY).writeValueAsString(obj));
         } catch (Exception e) {
-            log.error("对象序列化为JSON字符串（美化）失败，obj =  {}", obj, e);
-            throw new JacksonException("对象序列化为JSON字符串（美化）失败", e);
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化为JSON字符串（美化）失败", "obj", obj, e);
         }
     }
 
@@ -144,14 +299,147 @@ public final class JacksonUtil {
      * 对象序列化为字节数组，如果失败则抛出异常
      */
     public static byte[] toJsonBytesOrThrow(Object obj) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    getRegistry().writer(obj, JacksonRegistry.Style.COMPACT).writeValueAsBytes(obj));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化为字节数组失败", "obj", obj, e);
+        }
+    }
+
+    /*==================  字段投影  ==================*/
+
+    /**
+     * 对象序列化为JSON字符串，只输出 fields 中列出的属性（逗号分隔，点号表示嵌套，如 id,name,phone.number）；
+     * fields 为空白时输出全部属性
+     */
+    public static String toJsonString(Object obj, String fields) {
+        return executeWithDefault(() -> toJsonStringOrThrow(obj, fields), "{}");
+    }
+
+    /**
+     * 对象按字段投影序列化为JSON字符串，如果失败则抛出异常
+     */
+    public static String toJsonStringOrThrow(Object obj, String fields) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    projectionWriter(obj, fields).writeValueAsString(obj));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象按字段投影序列化为JSON字符串失败", "fields", fields, e);
+        }
+    }
+
+    /**
+     * 对象按字段投影序列化为字节数组
+     */
+    public static byte[] toJsonBytes(Object obj, String fields) {
+        return executeWithDefault(() -> toJsonBytesOrThrow(obj, fields), new byte[0]);
+    }
+
+    /**
+     * 对象按字段投影序列化为字节数组，如果失败则抛出异常
+     */
+    public static byte[] toJsonBytesOrThrow(Object obj, String fields) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    projectionWriter(obj, fields).writeValueAsBytes(obj));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象按字段投影序列化为字节数组失败", "fields", fields, e);
+        }
+    }
+
+    /**
+     * 包装为按字段投影输出的值，可直接作为控制器返回值或嵌入其他对象；fields 为空白时原样输出
+     */
+    public static ProjectedValue project(Object value, String fields) {
+        return project(value, fields, null);
+    }
+
+    /**
+     * 包装为按视图（@JsonView）输出、同时按字段投影的值；view 为 null 时不按视图过滤
+     * <p>
+     * 外层 ObjectMapper 的激活视图不会传递到投影写出器，需要在这里指定
+     */
+    public static ProjectedValue project(Object value, String fields, Class<?> view) {
+        return new ProjectedValue(value, fields,
+                value == null ? null : viewRegistry(view).projector().writer(value.getClass(), fields));
+    }
+
+    /**
+     * 按（运行时类型, fields）缓存的投影写出器，fields 为空白时退回普通写出器
+     */
+    private static ObjectWriter projectionWriter(Object obj, String fields) {
+        JacksonRegistry cache = getRegistry();
+        ObjectWriter writer = obj == null ? null : cache.projector().writer(obj.getClass(), fields);
+        return writer != null ? writer : cache.writer(obj, JacksonRegistry.Style.COMPACT);
+    }
+
+    /*==================  视图（@JsonView）  ==================*/
+
+    /**
+     * 对象按视图序列化为JSON字符串；视图可见的属性在序列化器构造时确定，序列化时不再逐个判断
+     */
+    public static String toJsonStringWithView(Object obj, Class<?> view) {
+        return executeWithDefault(() -> toJsonStringWithViewOrThrow(obj, view), "{}");
+    }
+
+    /**
+     * 对象按视图序列化为JSON字符串，如果失败则抛出异常
+     */
+    public static String toJsonStringWithViewOrThrow(Object obj, Class<?> view) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    viewRegistry(view).writer(obj, JacksonRegistry.Style.COMPACT).writeValueAsString(obj));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象按视图序列化为JSON字符串失败", "view", view, e);
+        }
+    }
+
+    /**
+     * 对象按视图序列化为字节数组
+     */
+    public static byte[] toJsonBytesWithView(Object obj, Class<?> view) {
+        return executeWithDefault(() -> toJsonBytesWithViewOrThrow(obj, view), new byte[0]);
+    }
+
+    /**
+     * 对象按视图序列化为字节数组，如果失败则抛出异常
+     */
+    public static byte[] toJsonBytesWithViewOrThrow(Object obj, Class<?> view) {
+        long start = metrics.start();
         try {
-            return getMapper().writeValueAsBytes(obj);
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    viewRegistry(view).writer(obj, JacksonRegistry.Style.COMPACT).writeValueAsBytes(obj));
         } catch (Exception e) {
-            log.error("对象序列化为字节数组失败，obj =  {}", obj, e);
-            throw new JacksonException("对象序列化为字节数组失败", e);
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象按视图序列化为字节数组失败", "view", view, e);
         }
     }
 
+    /**
+     * 包装为按视图输出的值，可直接作为控制器返回值；view 为 null 时按无视图输出
+     */
+    public static ViewedValue withView(Object value, Class<?> view) {
+        // 写入外层的 JsonGenerator，使用不在写完后 flush 的写出器
+        return new ViewedValue(value, view, viewRegistry(view).streamWriter());
+    }
+
+    /**
+     * 视图对应的缓存，view 为 null 时为默认缓存
+     */
+    private static JacksonRegistry viewRegistry(Class<?> view) {
+        JacksonRegistry cache = getRegistry();
+        return view == null ? cache : cache.view(view);
+    }
+
     /*==================  核心反序列化  ==================*/
 
     /**
@@ -165,11 +453,13 @@ public final class JacksonUtil {
      * JSON字符串反序列化为对象（简单类型），如果失败则抛出异常
      */
     public static <T> T parseObjectOrThrow(String json, Class<T> clazz) {
+        long start = metrics.start();
         try {
-            return getMapper().readValue(json, clazz);
+            return metrics.success(JacksonOperation.PARSE, clazz, start, json,
+                    getRegistry().reader(clazz).readValue(json));
         } catch (Exception e) {
-            log.error("JSON字符串反序列化为对象（简单类型）失败，json = {}", json, e);
-            throw new JacksonException("JSON字符串反序列化为对象（简单类型）失败", e);
+            metrics.failure(JacksonOperation.PARSE, clazz, start);
+            throw failures.fail(JacksonOperation.PARSE, "JSON字符串反序列化为对象（简单类型）失败", "json", json, e);
         }
     }
 
@@ -184,11 +474,13 @@ public final class JacksonUtil {
      * JSON字符串反序列化为对象（泛型TypeReference），如果失败则抛出异常
      */
     public static <T> T parseObjectOrThrow(String json, TypeReference<T> typeRef) {
+        long start = metrics.start();
         try {
-            return getMapper().readValue(json, typeRef);
+            return metrics.success(JacksonOperation.PARSE, rawClass(typeRef), start, json,
+                    getRegistry().reader(typeRef.getType()).readValue(json));
         } catch (Exception e) {
-            log.error("JSON字符串反序列化为对象（泛型TypeReference）失败，json = {}", json, e);
-            throw new JacksonException("JSON字符串反序列化为对象（泛型TypeReference）失败", e);
+            metrics.failure(JacksonOperation.PARSE, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.PARSE, "JSON字符串反序列化为对象（泛型TypeReference）失败", "json", json, e);
         }
     }
 
@@ -203,11 +495,13 @@ public final class JacksonUtil {
      * 字节数组反序列化为对象（简单类型），如果失败则抛出异常
      */
     public static <T> T parseObjectOrThrow(byte[] bytes, Class<T> clazz) {
+        long start = metrics.start();
         try {
-            return getMapper().readValue(bytes, clazz);
+            return metrics.success(JacksonOperation.PARSE, clazz, start, bytes,
+                    getRegistry().reader(clazz).readValue(bytes));
         } catch (Exception e) {
-            log.error("字节数组反序列化为对象（简单类型）失败，bytes = {}", bytes, e);
-            throw new JacksonException("字节数组反序列化为对象（简单类型）失败", e);
+            metrics.failure(JacksonOperation.PARSE, clazz, start);
+            throw failures.fail(JacksonOperation.PARSE, "字节数组反序列化为对象（简单类型）失败", "bytes", bytes, e);
         }
     }
 
@@ -222,11 +516,13 @@ public final class JacksonUtil {
      * 字节数组反序列化为对象（泛型TypeReference），如果失败则抛出异常
      */
     public static <T> T parseObjectOrThrow(byte[] bytes, TypeReference<T> typeRef) {
+        long start = metrics.start();
         try {
-            return getMapper().readValue(bytes, typeRef);
+            return metrics.success(JacksonOperation.PARSE, rawClass(typeRef), start, bytes,
+                    getRegistry().reader(typeRef.getType()).readValue(bytes));
         } catch (Exception e) {
-            log.error("字节数组反序列化为对象（泛型TypeReference）失败，bytes = {}", bytes, e);
-            throw new JacksonException("字节数组反序列化为对象（泛型TypeReference）失败", e);
+            metrics.failure(JacksonOperation.PARSE, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.PARSE, "字节数组反序列化为对象（泛型TypeReference）失败", "bytes", bytes, e);
         }
     }
 
@@ -241,11 +537,13 @@ public final class JacksonUtil {
      * JSON反序列化为列表（简单类型），如果失败则抛出异常
      */
     public static <T> List<T> parseArrayOrThrow(String json, Class<T> clazz) {
+        long start = metrics.start();
         try {
-            return getMapper().readValue(json, getMapper().getTypeFactory().constructCollectionType(List.class, clazz));
+            return metrics.success(JacksonOperation.PARSE, clazz, start, json,
+                    getRegistry().listReader(clazz).readValue(json));
         } catch (Exception e) {
-            log.error("JSON反序列化为列表（简单类型）失败，json = {}", json, e);
-            throw new JacksonException("JSON反序列化为列表（简单类型）失败", e);
+            metrics.failure(JacksonOperation.PARSE, clazz, start);
+            throw failures.fail(JacksonOperation.PARSE, "JSON反序列化为列表（简单类型）失败", "json", json, e);
         }
     }
 
@@ -260,12 +558,13 @@ public final class JacksonUtil {
      * JSON反序列化为列表（泛型TypeReference），如果失败则抛出异常
      */
     public static <T> List<T> parseArrayOrThrow(String json, TypeReference<T> typeRef) {
+        long start = metrics.start();
         try {
-            List<?> tmp = getMapper().readValue(json, List.class);
-            return convertList(tmp, typeRef);
+            return metrics.success(JacksonOperation.PARSE, rawClass(typeRef), start, json,
+                    getRegistry().listReader(typeRef.getType()).readValue(json));
         } catch (Exception e) {
-            log.error("JSON反序列化为列表（泛型TypeReference）失败，json = {}", json, e);
-            throw new JacksonException("JSON反序列化为列表（泛型TypeReference）失败", e);
+            metrics.failure(JacksonOperation.PARSE, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.PARSE, "JSON反序列化为列表（泛型TypeReference）失败", "json", json, e);
         }
     }
 
@@ -280,11 +579,13 @@ public final class JacksonUtil {
      * 字节数组反序列化为列表（简单类型），如果失败则抛出异常
      */
     public static <T> List<T> parseArrayOrThrow(byte[] bytes, Class<T> clazz) {
+        long start = metrics.start();
         try {
-            return getMapper().readValue(bytes, getMapper().getTypeFactory().constructCollectionType(List.class, clazz));
+            return metrics.success(JacksonOperation.PARSE, clazz, start, bytes,
+                    getRegistry().listReader(clazz).readValue(bytes));
         } catch (Exception e) {
-            log.error("字节数组反序列化为列表（简单类型）失败，bytes = {}", bytes, e);
-            throw new JacksonException("字节数组反序列化为列表（简单类型）", e);
+            metrics.failure(JacksonOperation.PARSE, clazz, start);
+            throw failures.fail(JacksonOperation.PARSE, "字节数组反序列化为列表（简单类型）失败", "bytes", bytes, e);
         }
     }
 
@@ -299,185 +600,1272 @@ public final class JacksonUtil {
      * 字节数组反序列化为列表（泛型TypeReference），如果失败则抛出异常
      */
     public static <T> List<T> parseArrayOrThrow(byte[] bytes, TypeReference<T> typeRef) {
+        long start = metrics.start();
         try {
-            List<?> tmp = getMapper().readValue(bytes, List.class);
-            return convertListOrThrow(tmp, typeRef);
+            return metrics.success(JacksonOperation.PARSE, rawClass(typeRef), start, bytes,
+                    getRegistry().listReader(typeRef.getType()).readValue(bytes));
         } catch (Exception e) {
-            log.error("字节数组反序列化为列表（泛型TypeReference）失败，bytes = {}", bytes, e);
-            throw new JacksonException("字节数组反序列化为列表（泛型TypeReference）失败", e);
+            metrics.failure(JacksonOperation.PARSE, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.PARSE, "字节数组反序列化为列表（泛型TypeReference）失败", "bytes", bytes, e);
         }
     }
 
-    /*==================  进阶功能  ==================*/
+    /*==================  文件解析（内存映射）  ==================*/
 
     /**
-     * 对象深克隆（简单类型）
+     * 文件内容反序列化为对象（简单类型）
      */
-    public static <T> T clone(Object source, Class<T> clazz) {
-        return executeWithDefault(() -> cloneOrThrow(source, clazz), null);
+    public static <T> T parseFile(Path path, Class<T> clazz) {
+        return executeWithDefault(() -> parseFileOrThrow(path, clazz), null);
     }
 
     /**
-     * 对象深克隆（简单类型），如果失败则抛出异常
+     * 文件内容反序列化为对象（简单类型），如果失败则抛出异常
+     * <p>
+     * 文件以内存映射方式分窗口读取，不会先整体读入堆内存，可处理超过 2GB 的文件
      */
-    public static <T> T cloneOrThrow(Object source, Class<T> clazz) {
-        try {
-            return parseObjectOrThrow(toJsonString(source), clazz);
+    public static <T> T parseFileOrThrow(Path path, Class<T> clazz) {
+        long start = metrics.start();
+        try (MappedFileInputStream in = new MappedFileInputStream(path)) {
+            T value = getRegistry().reader(clazz).readValue(in);
+            metrics.success(JacksonOperation.PARSE, clazz, start, in.size());
+            return value;
         } catch (Exception e) {
-            log.error("对象深克隆（简单类型）失败，source = {}", source, e);
-            throw new JacksonException("对象深克隆（简单类型）失败", e);
+            metrics.failure(JacksonOperation.PARSE, clazz, start);
+            throw failures.fail(JacksonOperation.PARSE, "JSON文件反序列化为对象（简单类型）失败", "path", path, e);
         }
     }
 
     /**
-     * 对象深克隆（泛型TypeReference）
+     * 文件内容反序列化为对象（泛型TypeReference）
      */
-    public static <T> T clone(Object source, TypeReference<T> typeRef) {
-        return executeWithDefault(() -> cloneOrThrow(source, typeRef), null);
+    public static <T> T parseFile(Path path, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> parseFileOrThrow(path, typeRef), null);
     }
 
     /**
-     * 对象深克隆（泛型TypeReference），如果失败则抛出异常
+     * 文件内容反序列化为对象（泛型TypeReference），如果失败则抛出异常
      */
-    public static <T> T cloneOrThrow(Object source, TypeReference<T> typeRef) {
-        try {
-            return parseObjectOrThrow(toJsonString(source), typeRef);
+    public static <T> T parseFileOrThrow(Path path, TypeReference<T> typeRef) {
+        long start = metrics.start();
+        try (MappedFileInputStream in = new MappedFileInputStream(path)) {
+            T value = getRegistry().reader(typeRef.getType()).readValue(in);
+            metrics.success(JacksonOperation.PARSE, rawClass(typeRef), start, in.size());
+            return value;
         } catch (Exception e) {
-            log.error("对象深克隆（泛型TypeReference）失败，source = {}", source, e);
-            throw new JacksonException("对象深克隆（泛型TypeReference）失败", e);
+            metrics.failure(JacksonOperation.PARSE, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.PARSE, "JSON文件反序列化为对象（泛型TypeReference）失败", "path", path, e);
         }
     }
 
     /**
-     * 对象转换（简单类型）
+     * 文件内容解析为树模型
      */
-    public static <T> T convert(Object source, Class<T> targetType) {
-        return executeWithDefault(() -> convertOrThrow(source, targetType), null);
+    public static JsonNode parseTreeFile(Path path) {
+        return executeWithDefault(() -> parseTreeFileOrThrow(path), null);
     }
 
     /**
-     * 对象转换（简单类型），如果失败则抛出异常
+     * 文件内容解析为树模型，如果失败则抛出异常
      */
-    public static <T> T convertOrThrow(Object source, Class<T> targetType) {
-        try {
-            return getMapper().convertValue(source, targetType);
+    public static JsonNode parseTreeFileOrThrow(Path path) {
+        long start = metrics.start();
+        try (MappedFileInputStream in = new MappedFileInputStream(path)) {
+            JsonNode tree = getRegistry().treeReader().readTree(in);
+            metrics.success(JacksonOperation.PARSE_TREE, JsonNode.class, start, in.size());
+            return tree;
         } catch (Exception e) {
-            log.error("对象转换（简单类型）失败，source = {}", source, e);
-            throw new JacksonException("对象转换（简单类型）失败", e);
+            metrics.failure(JacksonOperation.PARSE_TREE, JsonNode.class, start);
+            throw failures.fail(JacksonOperation.PARSE_TREE, "JSON文件解析为树模型失败", "path", path, e);
         }
     }
 
+    /*==================  流式读取  ==================*/
+
     /**
-     * 对象转换（泛型TypeReference）
+     * 输入流中的顶层JSON数组按元素惰性迭代（简单类型），关闭迭代器时同时关闭输入流
      */
-    public static <T> T convert(Object source, TypeReference<T> typeRef) {
-        return executeWithDefault(() -> convertOrThrow(source, typeRef), null);
+    public static <T> JsonArrayIterator<T> iterateArray(InputStream in, Class<T> clazz) {
+        ObjectReader reader = getRegistry().reader(clazz);
+        return JsonArrayIterator.open(createParser(() -> reader.createParser(in)), reader);
     }
 
     /**
-     * 对象转换（泛型TypeReference），如果失败则抛出异常
+     * 输入流中的顶层JSON数组按元素惰性迭代（泛型TypeReference），关闭迭代器时同时关闭输入流
      */
-    public static <T> T convertOrThrow(Object source, TypeReference<T> typeRef) {
-        try {
-            return getMapper().convertValue(source, typeRef);
-        } catch (Exception e) {
-            log.error("对象转换（泛型TypeReference）失败，source = {}", source, e);
-            throw new JacksonException("对象转换（泛型TypeReference）失败", e);
-        }
+    public static <T> JsonArrayIterator<T> iterateArray(InputStream in, TypeReference<T> typeRef) {
+        ObjectReader reader = getRegistry().reader(typeRef.getType());
+        return JsonArrayIterator.open(createParser(() -> reader.createParser(in)), reader);
     }
 
     /**
-     * 列表转换（简单类型）
+     * 字符流中的顶层JSON数组按元素惰性迭代（简单类型），关闭迭代器时同时关闭字符流
      */
-    public static <T> List<T> convertList(List<?> source, Class<T> targetType) {
-        return executeWithDefault(() -> convertListOrThrow(source, targetType), Collections.emptyList());
+    public static <T> JsonArrayIterator<T> iterateArray(Reader in, Class<T> clazz) {
+        ObjectReader reader = getRegistry().reader(clazz);
+        return JsonArrayIterator.open(createParser(() -> reader.createParser(in)), reader);
     }
 
     /**
-     * 列表转换（简单类型），如果失败则抛出异常
+     * 字符流中的顶层JSON数组按元素惰性迭代（泛型TypeReference），关闭迭代器时同时关闭字符流
      */
-    public static <T> List<T> convertListOrThrow(List<?> source, Class<T> targetType) {
+    public static <T> JsonArrayIterator<T> iterateArray(Reader in, TypeReference<T> typeRef) {
+        ObjectReader reader = getRegistry().reader(typeRef.getType());
+        return JsonArrayIterator.open(createParser(() -> reader.createParser(in)), reader);
+    }
+
+    /**
+     * 文件中的顶层JSON数组按元素惰性迭代（简单类型）
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(Path path, Class<T> clazz) {
+        InputStream in = openFile(path);
         try {
-            return getMapper().convertValue(source, getMapper().getTypeFactory().constructCollectionType(List.class, targetType));
-        } catch (Exception e) {
-            log.error("列表转换（简单类型）失败，source = {}", source, e);
-            throw new JacksonException("列表转换（简单类型）失败", e);
+            return iterateArray(in, clazz);
+        } catch (RuntimeException e) {
+            closeQuietly(in);
+            throw e;
         }
     }
 
     /**
-     * 列表转换（泛型TypeReference）
+     * 文件中的顶层JSON数组按元素惰性迭代（泛型TypeReference）
      */
-    public static <T> List<T> convertList(List<?> source, TypeReference<T> typeRef) {
-        return executeWithDefault(() -> convertListOrThrow(source, typeRef), Collections.emptyList());
+    public static <T> JsonArrayIterator<T> iterateArray(Path path, TypeReference<T> typeRef) {
+        InputStream in = openFile(path);
+        try {
+            return iterateArray(in, typeRef);
+        } catch (RuntimeException e) {
+            closeQuietly(in);
+            throw e;
+        }
     }
 
     /**
-     * 列表转换（泛型TypeReference），如果失败则抛出异常
+     * 输入流中的顶层JSON数组转换为惰性流（简单类型），需在 try-with-resources 中使用
      */
-    public static <T> List<T> convertListOrThrow(List<?> source, TypeReference<T> typeRef) {
-        try {
-            if (source.isEmpty()) {
-                return Collections.emptyList();
-            }
-            return source.stream()
-                    .map(item -> getMapper().convertValue(item, typeRef))
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("列表转换（泛型TypeReference）失败，source = {}", source, e);
-            throw new JacksonException("列表转换（泛型TypeReference）失败", e);
+    public static <T> Stream<T> streamArray(InputStream in, Class<T> clazz) {
+        return iterateArray(in, clazz).stream();
+    }
+
+    /**
+     * 输入流中的顶层JSON数组转换为惰性流（泛型TypeReference），需在 try-with-resources 中使用
+     */
+    public static <T> Stream<T> streamArray(InputStream in, TypeReference<T> typeRef) {
+        return iterateArray(in, typeRef).stream();
+    }
+
+    /**
+     * 字符流中的顶层JSON数组转换为惰性流（简单类型），需在 try-with-resources 中使用
+     */
+    public static <T> Stream<T> streamArray(Reader in, Class<T> clazz) {
+        return iterateArray(in, clazz).stream();
+    }
+
+    /**
+     * 字符流中的顶层JSON数组转换为惰性流（泛型TypeReference），需在 try-with-resources 中使用
+     */
+    public static <T> Stream<T> streamArray(Reader in, TypeReference<T> typeRef) {
+        return iterateArray(in, typeRef).stream();
+    }
+
+    /**
+     * 文件中的顶层JSON数组转换为惰性流（简单类型），需在 try-with-resources 中使用
+     */
+    public static <T> Stream<T> streamArray(Path path, Class<T> clazz) {
+        return iterateArray(path, clazz).stream();
+    }
+
+    /**
+     * 文件中的顶层JSON数组转换为惰性流（泛型TypeReference），需在 try-with-resources 中使用
+     */
+    public static <T> Stream<T> streamArray(Path path, TypeReference<T> typeRef) {
+        return iterateArray(path, typeRef).stream();
+    }
+
+    /**
+     * 创建 NDJSON（JSON Lines）并行读取器（简单类型），可通过 withXxx 方法指定线程池、分块大小、是否保序与错误回调
+     */
+    public static <T> NdjsonReader<T> ndjsonReader(Class<T> clazz) {
+        return NdjsonReader.of(getRegistry().reader(clazz));
+    }
+
+    /**
+     * 创建 NDJSON（JSON Lines）并行读取器（泛型TypeReference）
+     */
+    public static <T> NdjsonReader<T> ndjsonReader(TypeReference<T> typeRef) {
+        return NdjsonReader.of(getRegistry().reader(typeRef.getType()));
+    }
+
+    /**
+     * 创建非阻塞增量读取器（简单类型）：按到达顺序喂入任意切分的字节块，每解析出一个完整的值（或顶层数组的一个元素）即交付
+     */
+    public static <T> AsyncJsonReader<T> newAsyncReader(Class<T> clazz) {
+        return AsyncJsonReader.open(getMapper(), getRegistry().reader(clazz));
+    }
+
+    /**
+     * 创建非阻塞增量读取器（泛型TypeReference）
+     */
+    public static <T> AsyncJsonReader<T> newAsyncReader(TypeReference<T> typeRef) {
+        return AsyncJsonReader.open(getMapper(), getRegistry().reader(typeRef.getType()));
+    }
+
+    /*==================  流式写出  ==================*/
+
+    /**
+     * 逐个拉取元素写出为JSON数组，每 {@value #STREAM_FLUSH_INTERVAL} 个元素 flush 一次，返回写出的元素个数
+     * <p>
+     * 不会在内存中拼接整个文档；不关闭输出流。失败时已写出的部分无法撤回。
+     */
+    public static long writeArray(Iterator<?> items, OutputStream out) {
+        return writeElements(items, out, false, null, null);
+    }
+
+    /**
+     * 逐个拉取元素写出为JSON数组，写完（或失败）后关闭 Stream；不关闭输出流
+     */
+    public static long writeArray(Stream<?> items, OutputStream out) {
+        return writeArray(items, out, null);
+    }
+
+    /**
+     * 逐个拉取元素按视图（@JsonView）写出为JSON数组，写完（或失败）后关闭 Stream；view 为 null 时不按视图过滤
+     */
+    public static long writeArray(Stream<?> items, OutputStream out, Class<?> view) {
+        return writeArray(items, out, view, null);
+    }
+
+    /**
+     * 逐个拉取元素按视图写出为JSON数组，每个元素只输出 fields 中的属性（如 {@code id,name}），写完（或失败）后关闭 Stream；
+     * 投影写出器按（元素运行时类型, fields）缓存，fields 为空白时不投影
+     */
+    public static long writeArray(Stream<?> items, OutputStream out, Class<?> view, String fields) {
+        try (Stream<?> stream = items) {
+            return writeElements(stream.iterator(), out, false, view, fields);
         }
     }
 
     /**
-     * JSON增量更新对象
+     * 逐个拉取元素写出为 NDJSON（每行一个JSON值，以换行结尾），返回写出的元素个数；不关闭输出流
      */
-    public static <T> T update(String jsonPatch, T target) {
-        return executeWithDefault(() -> updateOrThrow(jsonPatch, target), null);
+    public static long writeNdjson(Iterator<?> items, OutputStream out) {
+        return writeElements(items, out, true, null, null);
     }
 
     /**
-     * JSON增量更新对象，如果失败则抛出异常
+     * 逐个拉取元素写出为 NDJSON，写完（或失败）后关闭 Stream；不关闭输出流
      */
-    public static <T> T updateOrThrow(String jsonPatch, T target) {
+    public static long writeNdjson(Stream<?> items, OutputStream out) {
+        return writeNdjson(items, out, null);
+    }
+
+    /**
+     * 逐个拉取元素按视图（@JsonView）写出为 NDJSON，写完（或失败）后关闭 Stream；view 为 null 时不按视图过滤
+     */
+    public static long writeNdjson(Stream<?> items, OutputStream out, Class<?> view) {
+        return writeNdjson(items, out, view, null);
+    }
+
+    /**
+     * 逐个拉取元素按视图写出为 NDJSON，每个元素只输出 fields 中的属性，写完（或失败）后关闭 Stream；fields 为空白时不投影
+     */
+    public static long writeNdjson(Stream<?> items, OutputStream out, Class<?> view, String fields) {
+        try (Stream<?> stream = items) {
+            return writeElements(stream.iterator(), out, true, view, fields);
+        }
+    }
+
+    /*==================  写出到调用方缓冲区  ==================*/
+
+    /**
+     * 对象序列化后写入调用方提供的输出流，不经过中间字节数组；写完 flush，不关闭输出流
+     * <p>
+     * 生成器的内部缓冲区来自 Jackson 的 BufferRecycler，按线程复用，不随调用分配。
+     */
+    public static void writeTo(Object obj, OutputStream out) {
+        long start = metrics.start();
         try {
-            ObjectReader updater = getMapper().readerForUpdating(target);
-            return updater.readValue(jsonPatch);
+            writeValue(obj, out);
+            metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, -1);
         } catch (Exception e) {
-            log.error("JSON增量更新对象失败，jsonPatch = {}, target = {}", jsonPatch, target, e);
-            throw new JacksonException("JSON增量更新对象失败", e);
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化写入输出流失败", "obj", obj, e);
         }
     }
 
     /**
-     * JSON解析为树模型
+     * 对象序列化后从 position 开始写入 ByteBuffer，空间不足时扩容（保持堆内/直接内存属性）
+     * <p>
+     * 返回写入后的缓冲区，position 位于数据末尾；发生扩容时返回新的缓冲区。
+     * 扩容或失败时传入缓冲区的 position 恢复原值，但其后的内容可能已被部分覆盖（与 writeToBounded 相同）。
      */
-    public static JsonNode parseTree(String json) {
-        return executeWithDefault(() -> parseTreeOrThrow(json), null);
+    public static ByteBuffer writeTo(Object obj, ByteBuffer buffer) {
+        int position = buffer.position();
+        long start = metrics.start();
+        ByteBufferOutputStream out = new ByteBufferOutputStream(buffer, true);
+        try {
+            writeValue(obj, out);
+            metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, out.written());
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            buffer.position(position);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化写入ByteBuffer失败", "obj", obj, e);
+        }
+        return out.buffer();
     }
 
     /**
-     * JSON解析为树模型，如果失败则抛出异常
+     * 对象序列化后从 position 开始写入 ByteBuffer，不扩容
+     * <p>
+     * 返回写入的字节数并推进 position；剩余空间不足时返回 -1，position 恢复原值（其后的内容可能已被覆盖）。
      */
-    public static JsonNode parseTreeOrThrow(String json) {
+    public static int writeToBounded(Object obj, ByteBuffer buffer) {
+        int position = buffer.position();
+        long start = metrics.start();
+        ByteBufferOutputStream out = new ByteBufferOutputStream(buffer, false);
         try {
-            return getMapper().readTree(json);
+            writeValue(obj, out);
+            metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, out.written());
+        } catch (ByteBufferOutputStream.Overflow e) {
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            buffer.position(position);
+            return -1;
         } catch (Exception e) {
-            log.error("JSON解析为树模型失败，json = {}", json, e);
-            throw new JacksonException("JSON解析为树模型失败", e);
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            buffer.position(position);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化写入ByteBuffer失败", "obj", obj, e);
         }
+        return out.written();
     }
 
     /**
-     * 判断是否为合法的JSON字符串
+     * 对象序列化后写入通道，返回写入的字节数；通道须为阻塞模式，不关闭通道
      */
-    public static boolean isValidJson(String json) {
+    public static long writeTo(Object obj, WritableByteChannel channel) {
+        long start = metrics.start();
+        ChannelOutputStream out = new ChannelOutputStream(channel);
         try {
-            getMapper().readTree(json);
-            return true;
+            writeValue(obj, out);
+            metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, out.written());
         } catch (Exception e) {
-            log.warn("无效的JSON字符串：{}", json, e);
-            return false;
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化写入通道失败", "obj", obj, e);
+        }
+        return out.written();
+    }
+
+    /*==================  非抛出式 API  ==================*/
+
+    /**
+     * JSON字符串反序列化为对象（简单类型），失败时返回携带原因的结果，不输出日志、不构造包装异常的堆栈
+     */
+    public static <T> JacksonResult<T> tryParseObject(String json, Class<T> clazz) {
+        return attempt(JacksonOperation.PARSE, clazz, json, "JSON字符串反序列化为对象（简单类型）失败",
+                () -> getRegistry().reader(clazz).readValue(json));
+    }
+
+    /**
+     * JSON字符串反序列化为对象（泛型TypeReference），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<T> tryParseObject(String json, TypeReference<T> typeRef) {
+        return attempt(JacksonOperation.PARSE, rawClass(typeRef), json, "JSON字符串反序列化为对象（泛型TypeReference）失败",
+                () -> getRegistry().reader(typeRef.getType()).readValue(json));
+    }
+
+    /**
+     * 字节数组反序列化为对象（简单类型），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<T> tryParseObject(byte[] bytes, Class<T> clazz) {
+        return attempt(JacksonOperation.PARSE, clazz, bytes, "字节数组反序列化为对象（简单类型）失败",
+                () -> getRegistry().reader(clazz).readValue(bytes));
+    }
+
+    /**
+     * 字节数组反序列化为对象（泛型TypeReference），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<T> tryParseObject(byte[] bytes, TypeReference<T> typeRef) {
+        return attempt(JacksonOperation.PARSE, rawClass(typeRef), bytes, "字节数组反序列化为对象（泛型TypeReference）失败",
+                () -> getRegistry().reader(typeRef.getType()).readValue(bytes));
+    }
+
+    /**
+     * JSON反序列化为列表（简单类型），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<List<T>> tryParseArray(String json, Class<T> clazz) {
+        return attempt(JacksonOperation.PARSE, clazz, json, "JSON反序列化为列表（简单类型）失败",
+                () -> getRegistry().listReader(clazz).readValue(json));
+    }
+
+    /**
+     * JSON反序列化为列表（泛型TypeReference），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<List<T>> tryParseArray(String json, TypeReference<T> typeRef) {
+        return attempt(JacksonOperation.PARSE, rawClass(typeRef), json, "JSON反序列化为列表（泛型TypeReference）失败",
+                () -> getRegistry().listReader(typeRef.getType()).readValue(json));
+    }
+
+    /**
+     * 字节数组反序列化为列表（简单类型），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<List<T>> tryParseArray(byte[] bytes, Class<T> clazz) {
+        return attempt(JacksonOperation.PARSE, clazz, bytes, "字节数组反序列化为列表（简单类型）失败",
+                () -> getRegistry().listReader(clazz).readValue(bytes));
+    }
+
+    /**
+     * 字节数组反序列化为列表（泛型TypeReference），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<List<T>> tryParseArray(byte[] bytes, TypeReference<T> typeRef) {
+        return attempt(JacksonOperation.PARSE, rawClass(typeRef), bytes, "字节数组反序列化为列表（泛型TypeReference）失败",
+                () -> getRegistry().listReader(typeRef.getType()).readValue(bytes));
+    }
+
+    /**
+     * 对象转换（简单类型），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<T> tryConvert(Object source, Class<T> targetType) {
+        return attempt(JacksonOperation.CONVERT, targetType, source, "对象转换（简单类型）失败", () -> {
+            JacksonRegistry cache = getRegistry();
+            return cache.mapper().convertValue(source, cache.type(targetType));
+        });
+    }
+
+    /**
+     * 对象转换（泛型TypeReference），失败时返回携带原因的结果
+     */
+    public static <T> JacksonResult<T> tryConvert(Object source, TypeReference<T> typeRef) {
+        return attempt(JacksonOperation.CONVERT, rawClass(typeRef), source, "对象转换（泛型TypeReference）失败", () -> {
+            JacksonRegistry cache = getRegistry();
+            return cache.mapper().convertValue(source, cache.type(typeRef.getType()));
+        });
+    }
+
+    /*==================  批量操作（并行）  ==================*/
+
+    /**
+     * 获取当前批量操作的并行策略
+     */
+    public static JacksonBulkPolicy getBulkPolicy() {
+        return bulk.policy();
+    }
+
+    /**
+     * 设置批量操作的并行策略；原先的专用线程池在进行中的批量操作全部结束后关闭，
+     * 切换瞬间仍拿到旧执行器的调用改为顺序执行，不会因线程池已关闭而失败
+     */
+    public static void setBulkPolicy(JacksonBulkPolicy policy) {
+        JacksonBulkExecutor previous = bulk;
+        bulk = new JacksonBulkExecutor(policy == null ? new JacksonBulkPolicy() : policy);
+        previous.shutdown();
+    }
+
+    /**
+     * 批量序列化为JSON字符串，结果与输入顺序一致，单个元素失败只记录在对应结果中
+     * <p>
+     * 元素个数达到 {@link JacksonBulkPolicy#getSequentialThreshold()} 时按分块在 ForkJoinPool 上并行执行，
+     * 失败不输出日志，只计入失败次数
+     */
+    public static List<JacksonResult<String>> toJsonStrings(List<?> items) {
+        JacksonRegistry cache = getRegistry();
+        return bulk.apply(items, JacksonOperation.SERIALIZE, "对象序列化为JSON字符串失败", failures,
+                obj -> measure(JacksonOperation.SERIALIZE, typeOf(obj), null,
+                        () -> cache.writer(obj, JacksonRegistry.Style.COMPACT).writeValueAsString(obj)));
+    }
+
+    /**
+     * 批量序列化为字节数组
+     */
+    public static List<JacksonResult<byte[]>> toJsonBytesAll(List<?> items) {
+        JacksonRegistry cache = getRegistry();
+        return bulk.apply(items, JacksonOperation.SERIALIZE, "对象序列化为字节数组失败", failures,
+                obj -> measure(JacksonOperation.SERIALIZE, typeOf(obj), null,
+                        () -> cache.writer(obj, JacksonRegistry.Style.COMPACT).writeValueAsBytes(obj)));
+    }
+
+    /**
+     * 批量反序列化JSON字符串（简单类型）
+     */
+    public static <T> List<JacksonResult<T>> parseAll(List<String> jsons, Class<T> clazz) {
+        ObjectReader reader = getRegistry().reader(clazz);
+        return bulk.apply(jsons, JacksonOperation.PARSE, "JSON字符串反序列化为对象（简单类型）失败", failures,
+                item -> measure(JacksonOperation.PARSE, reader.getValueType().getRawClass(), item,
+                        () -> reader.readValue(item)));
+    }
+
+    /**
+     * 批量反序列化JSON字符串（泛型TypeReference）
+     */
+    public static <T> List<JacksonResult<T>> parseAll(List<String> jsons, TypeReference<T> typeRef) {
+        ObjectReader reader = getRegistry().reader(typeRef.getType());
+        return bulk.apply(jsons, JacksonOperation.PARSE, "JSON字符串反序列化为对象（泛型TypeReference）失败", failures,
+                item -> measure(JacksonOperation.PARSE, reader.getValueType().getRawClass(), item,
+                        () -> reader.readValue(item)));
+    }
+
+    /**
+     * 批量反序列化字节数组（简单类型）
+     */
+    public static <T> List<JacksonResult<T>> parseBytesAll(List<byte[]> bytes, Class<T> clazz) {
+        ObjectReader reader = getRegistry().reader(clazz);
+        return bulk.apply(bytes, JacksonOperation.PARSE, "字节数组反序列化为对象（简单类型）失败", failures,
+                item -> measure(JacksonOperation.PARSE, reader.getValueType().getRawClass(), item,
+                        () -> reader.readValue(item)));
+    }
+
+    /**
+     * 批量反序列化字节数组（泛型TypeReference）
+     */
+    public static <T> List<JacksonResult<T>> parseBytesAll(List<byte[]> bytes, TypeReference<T> typeRef) {
+        ObjectReader reader = getRegistry().reader(typeRef.getType());
+        return bulk.apply(bytes, JacksonOperation.PARSE, "字节数组反序列化为对象（泛型TypeReference）失败", failures,
+                item -> measure(JacksonOperation.PARSE, reader.getValueType().getRawClass(), item,
+                        () -> reader.readValue(item)));
+    }
+
+    /**
+     * 批量对象转换（简单类型）；与 convertListOrThrow 不同，单个元素失败不影响其他元素
+     */
+    public static <T> List<JacksonResult<T>> convertAll(List<?> source, Class<T> targetType) {
+        JacksonRegistry cache = getRegistry();
+        JavaType type = cache.type(targetType);
+        return bulk.apply(source, JacksonOperation.CONVERT, "对象转换（简单类型）失败", failures,
+                item -> measure(JacksonOperation.CONVERT, type.getRawClass(), item,
+                        () -> cache.mapper().convertValue(item, type)));
+    }
+
+    /**
+     * 批量对象转换（泛型TypeReference）
+     */
+    public static <T> List<JacksonResult<T>> convertAll(List<?> source, TypeReference<T> typeRef) {
+        JacksonRegistry cache = getRegistry();
+        JavaType type = cache.type(typeRef.getType());
+        return bulk.apply(source, JacksonOperation.CONVERT, "对象转换（泛型TypeReference）失败", failures,
+                item -> measure(JacksonOperation.CONVERT, type.getRawClass(), item,
+                        () -> cache.mapper().convertValue(item, type)));
+    }
+
+    /*==================  进阶功能  ==================*/
+
+    /**
+     * 对象深克隆（简单类型）
+     */
+    public static <T> T clone(Object source, Class<T> clazz) {
+        return executeWithDefault(() -> cloneOrThrow(source, clazz), null);
+    }
+
+    /**
+     * 对象深克隆（简单类型），如果失败则抛出异常
+     */
+    public static <T> T cloneOrThrow(Object source, Class<T> clazz) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.CLONE, clazz, start, source,
+                    copy(source, getRegistry().reader(clazz)));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.CLONE, clazz, start);
+            throw failures.fail(JacksonOperation.CLONE, "对象深克隆（简单类型）失败", "source", source, e);
+        }
+    }
+
+    /**
+     * 对象深克隆（泛型TypeReference）
+     */
+    public static <T> T clone(Object source, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> cloneOrThrow(source, typeRef), null);
+    }
+
+    /**
+     * 对象深克隆（泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> T cloneOrThrow(Object source, TypeReference<T> typeRef) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.CLONE, rawClass(typeRef), start, source,
+                    copy(source, getRegistry().reader(typeRef.getType())));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.CLONE, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.CLONE, "对象深克隆（泛型TypeReference）失败", "source", source, e);
+        }
+    }
+
+    /**
+     * 对象转换（简单类型）
+     */
+    public static <T> T convert(Object source, Class<T> targetType) {
+        return executeWithDefault(() -> convertOrThrow(source, targetType), null);
+    }
+
+    /**
+     * 对象转换（简单类型），如果失败则抛出异常
+     */
+    public static <T> T convertOrThrow(Object source, Class<T> targetType) {
+        long start = metrics.start();
+        try {
+            JacksonRegistry cache = getRegistry();
+            return metrics.success(JacksonOperation.CONVERT, targetType, start, source,
+                    cache.mapper().convertValue(source, cache.type(targetType)));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.CONVERT, targetType, start);
+            throw failures.fail(JacksonOperation.CONVERT, "对象转换（简单类型）失败", "source", source, e);
+        }
+    }
+
+    /**
+     * 对象转换（泛型TypeReference）
+     */
+    public static <T> T convert(Object source, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> convertOrThrow(source, typeRef), null);
+    }
+
+    /**
+     * 对象转换（泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> T convertOrThrow(Object source, TypeReference<T> typeRef) {
+        long start = metrics.start();
+        try {
+            JacksonRegistry cache = getRegistry();
+            return metrics.success(JacksonOperation.CONVERT, rawClass(typeRef), start, source,
+                    cache.mapper().convertValue(source, cache.type(typeRef.getType())));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.CONVERT, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.CONVERT, "对象转换（泛型TypeReference）失败", "source", source, e);
+        }
+    }
+
+    /**
+     * 列表转换（简单类型）
+     */
+    public static <T> List<T> convertList(List<?> source, Class<T> targetType) {
+        return executeWithDefault(() -> convertListOrThrow(source, targetType), Collections.emptyList());
+    }
+
+    /**
+     * 列表转换（简单类型），如果失败则抛出异常
+     */
+    public static <T> List<T> convertListOrThrow(List<?> source, Class<T> targetType) {
+        long start = metrics.start();
+        try {
+            JacksonRegistry cache = getRegistry();
+            return metrics.success(JacksonOperation.CONVERT, targetType, start, source,
+                    cache.mapper().convertValue(source, cache.listType(targetType)));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.CONVERT, targetType, start);
+            throw failures.fail(JacksonOperation.CONVERT, "列表转换（简单类型）失败", "source", source, e);
+        }
+    }
+
+    /**
+     * 列表转换（泛型TypeReference）
+     */
+    public static <T> List<T> convertList(List<?> source, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> convertListOrThrow(source, typeRef), Collections.emptyList());
+    }
+
+    /**
+     * 列表转换（泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> List<T> convertListOrThrow(List<?> source, TypeReference<T> typeRef) {
+        long start = metrics.start();
+        try {
+            if (source.isEmpty()) {
+                return Collections.emptyList();
+            }
+            JacksonRegistry cache = getRegistry();
+            JavaType targetType = cache.type(typeRef.getType());
+            List<T> result = source.stream()
+                    .map(item -> cache.mapper().<T>convertValue(item, targetType))
+                    .collect(Collectors.toList());
+            return metrics.success(JacksonOperation.CONVERT, rawClass(typeRef), start, source, result);
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.CONVERT, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.CONVERT, "列表转换（泛型TypeReference）失败", "source", source, e);
+        }
+    }
+
+    /**
+     * JSON增量更新对象
+     * <p>
+     * 嵌套对象整体替换、null 写入为 null；需要按 RFC 7386 逐层合并与删除时使用 {@link #mergePatch(String, Object)}
+     */
+    public static <T> T update(String jsonPatch, T target) {
+        return executeWithDefault(() -> updateOrThrow(jsonPatch, target), null);
+    }
+
+    /**
+     * JSON增量更新对象，如果失败则抛出异常
+     */
+    public static <T> T updateOrThrow(String jsonPatch, T target) {
+        long start = metrics.start();
+        try {
+            ObjectReader updater = getRegistry().updater(target);
+            return metrics.success(JacksonOperation.UPDATE, typeOf(target), start, jsonPatch,
+                    updater.readValue(jsonPatch));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.UPDATE, typeOf(target), start);
+            throw failures.fail(JacksonOperation.UPDATE, "JSON增量更新对象失败", "jsonPatch", jsonPatch, e);
+        }
+    }
+
+    /**
+     * JSON解析为树模型
+     */
+    public static JsonNode parseTree(String json) {
+        return executeWithDefault(() -> parseTreeOrThrow(json), null);
+    }
+
+    /**
+     * JSON解析为树模型，如果失败则抛出异常
+     */
+    public static JsonNode parseTreeOrThrow(String json) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.PARSE_TREE, JsonNode.class, start, json,
+                    getRegistry().treeReader().readTree(json));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.PARSE_TREE, JsonNode.class, start);
+            throw failures.fail(JacksonOperation.PARSE_TREE, "JSON解析为树模型失败", "json", json, e);
+        }
+    }
+
+    /**
+     * 判断是否为合法的JSON字符串（只校验token，不构建树）
+     */
+    public static boolean isValidJson(String json) {
+        return getRegistry().validator().isValid(json);
+    }
+
+    /**
+     * 获取与全局 ObjectMapper 解析特性一致的JSON校验器，可通过 withXxx 方法附加深度、长度、元素个数限制，
+     * 支持 String / byte[] / ByteBuffer / InputStream 输入
+     */
+    public static JsonValidator validator() {
+        return getRegistry().validator();
+    }
+
+    /*==================  JSON Patch / Merge Patch  ==================*/
+
+    /**
+     * 解析 JSON Patch（RFC 6902）文档；结果不可变，可缓存后重复应用到多个目标
+     */
+    public static JsonPatch parsePatch(String patch) {
+        return executeWithDefault(() -> parsePatchOrThrow(patch), null);
+    }
+
+    /**
+     * 解析 JSON Patch（RFC 6902）文档，如果失败则抛出异常
+     */
+    public static JsonPatch parsePatchOrThrow(String patch) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.PARSE_TREE, JsonPatch.class, start, patch,
+                    JsonPatch.of(getRegistry().treeReader().readTree(patch)));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.PARSE_TREE, JsonPatch.class, start);
+            throw failures.fail(JacksonOperation.PARSE_TREE, "JSON Patch 解析失败", "patch", patch, e);
+        }
+    }
+
+    /**
+     * 应用 JSON Patch（RFC 6902），直接修改目标对象（Bean / Map / List / 数组 / JsonNode），返回修改后的目标
+     * <p>
+     * 目标不会被序列化为树模型再转回，补丁中的值只按所在位置的类型反序列化；替换根（path 为空）时返回新对象。
+     * 任一操作失败（包括 test 不通过）时撤销已执行的修改，目标保持原状。
+     * 目标的类型取其运行时类，元素为 Bean 的 List、Map 等须使用带 TypeReference 的重载
+     */
+    public static <T> T applyPatch(String patch, T target) {
+        return executeWithDefault(() -> applyPatchOrThrow(patch, target), null);
+    }
+
+    /**
+     * 应用 JSON Patch（RFC 6902），如果失败则抛出异常
+     */
+    public static <T> T applyPatchOrThrow(String patch, T target) {
+        return applyPatchOrThrow(parsePatchOrThrow(patch), target);
+    }
+
+    /**
+     * 应用 JSON Patch（RFC 6902），按 TypeReference 声明的类型（如 List&lt;User&gt;）反序列化新增的元素
+     */
+    public static <T> T applyPatch(String patch, T target, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> applyPatchOrThrow(patch, target, typeRef), null);
+    }
+
+    /**
+     * 应用 JSON Patch（RFC 6902，泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> T applyPatchOrThrow(String patch, T target, TypeReference<T> typeRef) {
+        return applyPatchOrThrow(parsePatchOrThrow(patch), target, typeRef);
+    }
+
+    /**
+     * 应用已解析的 JSON Patch
+     */
+    public static <T> T applyPatch(JsonPatch patch, T target) {
+        return executeWithDefault(() -> applyPatchOrThrow(patch, target), null);
+    }
+
+    /**
+     * 应用已解析的 JSON Patch，如果失败则抛出异常
+     */
+    public static <T> T applyPatchOrThrow(JsonPatch patch, T target) {
+        return patchOrThrow(patch, target, null, typeOf(target));
+    }
+
+    /**
+     * 应用已解析的 JSON Patch（泛型TypeReference）
+     */
+    public static <T> T applyPatch(JsonPatch patch, T target, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> applyPatchOrThrow(patch, target, typeRef), null);
+    }
+
+    /**
+     * 应用已解析的 JSON Patch（泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> T applyPatchOrThrow(JsonPatch patch, T target, TypeReference<T> typeRef) {
+        return patchOrThrow(patch, target, getRegistry().type(typeRef.getType()), rawClass(typeRef));
+    }
+
+    private static <T> T patchOrThrow(JsonPatch patch, T target, JavaType type, Class<?> label) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.UPDATE, label, start, null,
+                    getRegistry().patcher().apply(patch, target, type));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.UPDATE, label, start);
+            throw failures.fail(JacksonOperation.UPDATE, "JSON Patch 应用失败", "patch", patch, e);
+        }
+    }
+
+    /**
+     * 应用 JSON Merge Patch（RFC 7386），直接修改目标对象，返回修改后的目标
+     * <p>
+     * null 删除成员（Bean 属性置为 null），对象逐层合并，其他值整体替换；补丁不是对象时替换整个目标并返回新对象。
+     * 失败时撤销已执行的修改；元素为 Bean 的 List、Map 等须使用带 TypeReference 的重载
+     */
+    public static <T> T mergePatch(String patch, T target) {
+        return executeWithDefault(() -> mergePatchOrThrow(patch, target), null);
+    }
+
+    /**
+     * 应用 JSON Merge Patch（RFC 7386），如果失败则抛出异常
+     */
+    public static <T> T mergePatchOrThrow(String patch, T target) {
+        return mergeOrThrow(patch, target, null, typeOf(target));
+    }
+
+    /**
+     * 应用 JSON Merge Patch（RFC 7386），按 TypeReference 声明的类型反序列化替换进来的值
+     */
+    public static <T> T mergePatch(String patch, T target, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> mergePatchOrThrow(patch, target, typeRef), null);
+    }
+
+    /**
+     * 应用 JSON Merge Patch（RFC 7386，泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> T mergePatchOrThrow(String patch, T target, TypeReference<T> typeRef) {
+        return mergeOrThrow(patch, target, getRegistry().type(typeRef.getType()), rawClass(typeRef));
+    }
+
+    /**
+     * 以树模型应用 JSON Merge Patch，如果失败则抛出异常
+     */
+    public static <T> T mergePatchOrThrow(JsonNode patch, T target) {
+        return mergeOrThrow(patch, target, null, typeOf(target));
+    }
+
+    /**
+     * 以树模型应用 JSON Merge Patch（泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> T mergePatchOrThrow(JsonNode patch, T target, TypeReference<T> typeRef) {
+        return mergeOrThrow(patch, target, getRegistry().type(typeRef.getType()), rawClass(typeRef));
+    }
+
+    /**
+     * patch 为 JSON 字符串或 JsonNode
+     */
+    private static <T> T mergeOrThrow(Object patch, T target, JavaType type, Class<?> label) {
+        long start = metrics.start();
+        try {
+            JacksonRegistry cache = getRegistry();
+            JsonNode tree = patch instanceof JsonNode ? (JsonNode) patch : cache.treeReader().readTree((String) patch);
+            return metrics.success(JacksonOperation.UPDATE, label, start, patch, cache.patcher().merge(tree, target, type));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.UPDATE, label, start);
+            throw failures.fail(JacksonOperation.UPDATE, "JSON Merge Patch 应用失败", "patch", patch, e);
+        }
+    }
+
+    /**
+     * 把同一个 JSON Patch 批量应用到多个目标，结果与输入顺序一致，单个目标失败只记录在对应结果中
+     * <p>
+     * 与其他批量操作一样按 {@link JacksonBulkPolicy} 并行；各目标应互不共享可变的子对象
+     */
+    public static <T> List<JacksonResult<T>> applyPatchAll(List<T> targets, JsonPatch patch) {
+        JacksonPatcher patcher = getRegistry().patcher();
+        return bulk.apply(targets, JacksonOperation.UPDATE, "JSON Patch 应用失败", failures,
+                item -> measure(JacksonOperation.UPDATE, typeOf(item), null, () -> patcher.apply(patch, item, null)));
+    }
+
+    /**
+     * 把同一个 JSON Merge Patch 批量应用到多个目标
+     */
+    public static <T> List<JacksonResult<T>> mergePatchAll(List<T> targets, JsonNode patch) {
+        JacksonPatcher patcher = getRegistry().patcher();
+        return bulk.apply(targets, JacksonOperation.UPDATE, "JSON Merge Patch 应用失败", failures,
+                item -> measure(JacksonOperation.UPDATE, typeOf(item), null, () -> patcher.merge(patch, item, null)));
+    }
+
+    /*==================  二进制格式（Smile / CBOR）  ==================*/
+
+    /**
+     * 对象序列化为Smile字节数组
+     */
+    public static byte[] toSmileBytes(Object obj) {
+        return executeWithDefault(() -> toSmileBytesOrThrow(obj), new byte[0]);
+    }
+
+    /**
+     * 对象序列化为Smile字节数组，如果失败则抛出异常
+     */
+    public static byte[] toSmileBytesOrThrow(Object obj) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    SMILE.registry().writer(obj, JacksonRegistry.Style.COMPACT).writeValueAsBytes(obj));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化为Smile字节数组失败", "obj", obj, e);
+        }
+    }
+
+    /**
+     * Smile字节数组反序列化为对象（简单类型）
+     */
+    public static <T> T parseSmile(byte[] bytes, Class<T> clazz) {
+        return executeWithDefault(() -> parseSmileOrThrow(bytes, clazz), null);
+    }
+
+    /**
+     * Smile字节数组反序列化为对象（简单类型），如果失败则抛出异常
+     */
+    public static <T> T parseSmileOrThrow(byte[] bytes, Class<T> clazz) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.PARSE, clazz, start, bytes,
+                    SMILE.registry().reader(clazz).readValue(bytes));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.PARSE, clazz, start);
+            throw failures.fail(JacksonOperation.PARSE, "Smile字节数组反序列化为对象（简单类型）失败", "bytes", bytes, e);
+        }
+    }
+
+    /**
+     * Smile字节数组反序列化为对象（泛型TypeReference）
+     */
+    public static <T> T parseSmile(byte[] bytes, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> parseSmileOrThrow(bytes, typeRef), null);
+    }
+
+    /**
+     * Smile字节数组反序列化为对象（泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> T parseSmileOrThrow(byte[] bytes, TypeReference<T> typeRef) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.PARSE, rawClass(typeRef), start, bytes,
+                    SMILE.registry().reader(typeRef.getType()).readValue(bytes));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.PARSE, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.PARSE, "Smile字节数组反序列化为对象（泛型TypeReference）失败", "bytes", bytes, e);
+        }
+    }
+
+    /**
+     * 对象序列化为CBOR字节数组
+     */
+    public static byte[] toCborBytes(Object obj) {
+        return executeWithDefault(() -> toCborBytesOrThrow(obj), new byte[0]);
+    }
+
+    /**
+     * 对象序列化为CBOR字节数组，如果失败则抛出异常
+     */
+    public static byte[] toCborBytesOrThrow(Object obj) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.SERIALIZE, typeOf(obj), start, null,
+                    CBOR.registry().writer(obj, JacksonRegistry.Style.COMPACT).writeValueAsBytes(obj));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.SERIALIZE, typeOf(obj), start);
+            throw failures.fail(JacksonOperation.SERIALIZE, "对象序列化为CBOR字节数组失败", "obj", obj, e);
+        }
+    }
+
+    /**
+     * CBOR字节数组反序列化为对象（简单类型）
+     */
+    public static <T> T parseCbor(byte[] bytes, Class<T> clazz) {
+        return executeWithDefault(() -> parseCborOrThrow(bytes, clazz), null);
+    }
+
+    /**
+     * CBOR字节数组反序列化为对象（简单类型），如果失败则抛出异常
+     */
+    public static <T> T parseCborOrThrow(byte[] bytes, Class<T> clazz) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.PARSE, clazz, start, bytes,
+                    CBOR.registry().reader(clazz).readValue(bytes));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.PARSE, clazz, start);
+            throw failures.fail(JacksonOperation.PARSE, "CBOR字节数组反序列化为对象（简单类型）失败", "bytes", bytes, e);
+        }
+    }
+
+    /**
+     * CBOR字节数组反序列化为对象（泛型TypeReference）
+     */
+    public static <T> T parseCbor(byte[] bytes, TypeReference<T> typeRef) {
+        return executeWithDefault(() -> parseCborOrThrow(bytes, typeRef), null);
+    }
+
+    /**
+     * CBOR字节数组反序列化为对象（泛型TypeReference），如果失败则抛出异常
+     */
+    public static <T> T parseCborOrThrow(byte[] bytes, TypeReference<T> typeRef) {
+        long start = metrics.start();
+        try {
+            return metrics.success(JacksonOperation.PARSE, rawClass(typeRef), start, bytes,
+                    CBOR.registry().reader(typeRef.getType()).readValue(bytes));
+        } catch (Exception e) {
+            metrics.failure(JacksonOperation.PARSE, rawClass(typeRef), start);
+            throw failures.fail(JacksonOperation.PARSE, "CBOR字节数组反序列化为对象（泛型TypeReference）失败", "bytes", bytes, e);
+        }
+    }
+
+    /*==================  预热  ==================*/
+
+    /**
+     * 预先构建类型的读取器、List 读取器与紧凑/美化写出器并放入缓存，根（反）序列化器随之完成构造
+     * <p>
+     * 序列化器与反序列化器缓存在 mapper 上，Spring MVC 使用同一个 mapper 时同样受益。
+     * 抽象类与接口只构建读取器（写出器按运行时类型查找）；无法（反）序列化的类型不抛出异常，首次使用时照常报错
+     */
+    public static void warmUp(Class<?> type) {
+        JacksonRegistry cache = getRegistry();
+        cache.reader(type);
+        cache.listReader(type);
+        if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+            cache.writer(type, JacksonRegistry.Style.COMPACT);
+            cache.writer(type, JacksonRegistry.Style.PRETTY);
+        }
+    }
+
+    /*==================  内部方法  ==================*/
+
+    /**
+     * 二进制格式的 ObjectMapper 及其读写器缓存，未经 Spring 注入时按 Bean 名称获取
+     */
+    private static final class BinaryFormat {
+
+        private final String beanName;
+
+        private volatile ObjectMapper mapper;
+
+        private volatile JacksonRegistry registry;
+
+        BinaryFormat(String beanName) {
+            this.beanName = beanName;
+        }
+
+        ObjectMapper mapper() {
+            ObjectMapper current = mapper;
+            if (current == null) {
+                synchronized (this) {
+                    current = mapper;
+                    if (current == null) {
+                        current = SpringUtil.getBean(beanName, ObjectMapper.class);
+                        mapper = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        JacksonRegistry registry() {
+            ObjectMapper current = mapper();
+            JacksonRegistry cached = registry;
+            if (cached == null || !cached.belongsTo(current)) {
+                cached = new JacksonRegistry(current);
+                registry = cached;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * 可抛出受检异常的操作
+     */
+    @FunctionalInterface
+    private interface JacksonCall<T> {
+        T call() throws Exception;
+    }
+
+    private static <T> JacksonResult<T> attempt(JacksonOperation operation, Class<?> type, Object payload,
+                                                String message, JacksonCall<T> call) {
+        try {
+            return JacksonResult.success(measure(operation, type, payload, call));
+        } catch (Exception e) {
+            return JacksonResult.failure(failures.failQuietly(operation, message, e));
+        }
+    }
+
+    /**
+     * 执行操作并按（操作, 类型）记录耗时与结果，异常原样抛出
+     */
+    private static <T> T measure(JacksonOperation operation, Class<?> type, Object payload,
+                                 JacksonCall<T> call) throws Exception {
+        long start = metrics.start();
+        try {
+            return metrics.success(operation, type, start, payload, call.call());
+        } catch (Exception e) {
+            metrics.failure(operation, type, start);
+            throw e;
+        }
+    }
+
+    /**
+     * 统计标签使用的类型，null 记为 Void
+     */
+    private static Class<?> typeOf(Object value) {
+        return value == null ? Void.class : value.getClass();
+    }
+
+    /**
+     * 统计标签使用的类型：TypeReference 的原始类型
+     */
+    private static Class<?> rawClass(TypeReference<?> typeRef) {
+        return getRegistry().type(typeRef.getType()).getRawClass();
+    }
+
+    /**
+     * 供同包组件按失败策略记录失败
+     */
+    static JacksonException fail(JacksonOperation operation, String message, String label, Object payload, Exception e) {
+        return failures.fail(operation, message, label, payload, e);
+    }
+
+    /**
+     * 经由内存中的 token 流复制对象：按全局配置序列化为 TokenBuffer，再从中反序列化，全程不产生JSON文本
+     */
+    private static <T> T copy(Object source, ObjectReader reader) throws IOException {
+        JacksonRegistry cache = getRegistry();
+        TokenBuffer buffer = new TokenBuffer(cache.mapper(), false);
+        if (cache.mapper().isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+            buffer = buffer.forceUseOfBigDecimal(true);
+        }
+        cache.writer(source, JacksonRegistry.Style.COMPACT).writeValue(buffer, source);
+        try (JsonParser parser = buffer.asParser()) {
+            return reader.readValue(parser);
+        }
+    }
+
+    /**
+     * 按JSON数组或 NDJSON 逐个写出元素，元素的序列化器按运行时类型查找并在写出过程中缓存；view 为 null 时不按视图过滤，
+     * fields 不为空白时每个元素按其运行时类型取投影写出器（见 {@link #project}）
+     */
+    private static long writeElements(Iterator<?> items, OutputStream out, boolean ndjson, Class<?> view, String fields) {
+        JacksonRegistry cache = viewRegistry(view);
+        ObjectWriter writer = ndjson ? cache.ndjsonWriter() : cache.streamWriter();
+        long count = 0;
+        try (JsonGenerator gen = writer.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (fields == null || fields.trim().isEmpty()) {
+                try (SequenceWriter sequence = ndjson ? writer.writeValues(gen) : writer.writeValuesAsArray(gen)) {
+                    while (items.hasNext()) {
+                        sequence.write(items.next());
+                        if (++count % STREAM_FLUSH_INTERVAL == 0) {
+                            gen.flush();
+                        }
+                    }
+                }
+            } else {
+                if (!ndjson) {
+                    gen.writeStartArray();
+                }
+                // 元素类型通常相同，记住上一个类型的写出器，避免每个元素都查一次投影缓存
+                Class<?> lastType = null;
+                ObjectWriter projected = writer;
+                while (items.hasNext()) {
+                    Object item = items.next();
+                    if (item == null) {
+                        writer.writeValue(gen, null);
+                    } else {
+                        if (item.getClass() != lastType) {
+                            lastType = item.getClass();
+                            ObjectWriter found = cache.projector().writer(lastType, fields);
+                            projected = found != null ? found : writer;
+                        }
+                        projected.writeValue(gen, item);
+                    }
+                    if (++count % STREAM_FLUSH_INTERVAL == 0) {
+                        gen.flush();
+                    }
+                }
+                if (!ndjson) {
+                    gen.writeEndArray();
+                }
+            }
+            if (ndjson && count > 0) {
+                gen.writeRaw('\n');
+            }
+        } catch (Exception e) {
+            throw failures.fail(JacksonOperation.SERIALIZE, "第" + count + "个元素（下标从0开始）流式写出失败", "index", count, e);
+        }
+        return count;
+    }
+
+    /**
+     * 以紧凑风格写出单个值，写完 flush，不关闭目标输出流
+     */
+    private static void writeValue(Object obj, OutputStream out) throws IOException {
+        ObjectWriter writer = getRegistry().writer(obj, JacksonRegistry.Style.COMPACT);
+        try (JsonGenerator gen = writer.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(gen, obj);
+        }
+    }
+
+    /**
+     * 创建解析器的回调
+     */
+    @FunctionalInterface
+    private interface ParserFactory {
+        JsonParser create() throws IOException;
+    }
+
+    private static JsonParser createParser(ParserFactory factory) {
+        try {
+            return factory.create();
+        } catch (IOException e) {
+            throw failures.fail(JacksonOperation.PARSE, "创建JSON解析器失败", "source", null, e);
+        }
+    }
+
+    private static InputStream openFile(Path path) {
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            throw failures.fail(JacksonOperation.PARSE, "打开JSON文件失败", "path", path, e);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.debug("关闭资源失败", e);
         }
     }
 
@@ -0,0 +1,146 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 顶层JSON数组的惰性迭代器，每次只读取一个元素
+ * <p>
+ * 读到数组末尾或出错时自动关闭底层解析器（连同输入源）；提前结束遍历时需调用 {@link #close()}。
+ * 非线程安全。
+ *
+ * @author yangtao
+ * @since 2025/7/29 14:05
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonArrayIterator.class);
+
+    private final JsonParser parser;
+
+    private final ObjectReader reader;
+
+    /**
+     * 下一个待读取元素的下标（从0开始）
+     */
+    private long index;
+
+    /**
+     * 解析器是否已前进到下一个元素的起始位置
+     */
+    private boolean ready;
+
+    private boolean closed;
+
+    private JsonArrayIterator(JsonParser parser, ObjectReader reader) {
+        this.parser = parser;
+        this.reader = reader;
+    }
+
+    /**
+     * 基于解析器创建迭代器，要求首个token为数组起始，否则关闭解析器并抛出异常
+     */
+    static <T> JsonArrayIterator<T> open(JsonParser parser, ObjectReader reader) {
+        try {
+            JsonToken first = parser.nextToken();
+            if (first != JsonToken.START_ARRAY) {
+                throw new JacksonUtil.JacksonException("JSON顶层不是数组，首个token = " + first, null);
+            }
+            return new JsonArrayIterator<>(parser, reader);
+        } catch (IOException e) {
+            closeQuietly(parser);
+            throw JacksonUtil.fail(JacksonOperation.PARSE, "JSON数组读取失败", "index", 0, e);
+        } catch (RuntimeException e) {
+            closeQuietly(parser);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (ready) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+                return false;
+            }
+            ready = true;
+            return true;
+        } catch (IOException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ready = false;
+        try {
+            T value = reader.readValue(parser);
+            index++;
+            return value;
+        } catch (IOException | RuntimeException e) {
+            throw fail(e);
+        }
+    }
+
+    /**
+     * 已成功读取的元素个数，亦即下一个元素的下标
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * 转换为顺序流，关闭流时释放解析器
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            ready = false;
+            closeQuietly(parser);
+        }
+    }
+
+    /**
+     * 关闭解析器并按失败策略包装，自定义反序列化器抛出的运行时异常同样带上元素下标
+     */
+    private JacksonUtil.JacksonException fail(Exception e) {
+        close();
+        return JacksonUtil.fail(JacksonOperation.PARSE, "JSON数组第" + index + "个元素（下标从0开始）解析失败", "index", index, e);
+    }
+
+    private static void closeQuietly(JsonParser parser) {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            log.debug("关闭JSON解析器失败", e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 解析并校验过的 JSON Patch（RFC 6902），不可变，可在多个线程上重复应用到不同目标
+ * <p>
+ * 由 {@link JacksonUtil#parsePatch} 或 {@link #of(JsonNode)} 创建，由 {@link JacksonUtil#applyPatch} 应用。
+ * 路径在解析时就拆分为已反转义的 JSON Pointer 段，应用时不再解析。
+ *
+ * @author yangtao
+ * @since 2025/8/12 10:10
+ */
+public final class JsonPatch {
+
+    /**
+     * RFC 6902 定义的操作
+     */
+    public enum Op {
+        ADD, REMOVE, REPLACE, MOVE, COPY, TEST
+    }
+
+    private final List<Operation> operations;
+
+    private JsonPatch(List<Operation> operations) {
+        this.operations = Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * 从树模型创建：必须是对象数组，每个对象包含 op、path，以及该操作要求的 value 或 from；格式错误时抛出 IllegalArgumentException
+     */
+    public static JsonPatch of(JsonNode patch) {
+        if (patch == null || !patch.isArray()) {
+            throw new IllegalArgumentException("JSON Patch 必须是数组");
+        }
+        List<Operation> operations = new ArrayList<>(patch.size());
+        for (int i = 0; i < patch.size(); i++) {
+            operations.add(Operation.of(i, patch.get(i)));
+        }
+        return new JsonPatch(operations);
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    @Override
+    public String toString() {
+        return operations.toString();
+    }
+
+    /**
+     * 单个操作；value 为树模型，应用时按目标位置的类型转换
+     */
+    public static final class Operation {
+
+        private final Op op;
+
+        private final String path;
+
+        private final String[] pathSegments;
+
+        private final String from;
+
+        private final String[] fromSegments;
+
+        private final JsonNode value;
+
+        private Operation(Op op, String path, String from, JsonNode value) {
+            this.op = op;
+            this.path = path;
+            this.pathSegments = segments(path);
+            this.from = from;
+            this.fromSegments = from == null ? null : segments(from);
+            this.value = value;
+        }
+
+        static Operation of(int index, JsonNode node) {
+            if (node == null || !node.isObject()) {
+                throw new IllegalArgumentException("第" + index + "个操作不是对象");
+            }
+            Op op = op(index, node.get("op"));
+            String path = text(index, node, "path");
+            String from = op == Op.MOVE || op == Op.COPY ? text(index, node, "from") : null;
+            JsonNode value = null;
+            if (op == Op.ADD || op == Op.REPLACE || op == Op.TEST) {
+                value = node.get("value");
+                if (value == null) {
+                    throw new IllegalArgumentException("第" + index + "个操作（" + op + "）缺少 value");
+                }
+            }
+            if (op == Op.MOVE && isPrefix(segments(from), segments(path))) {
+                throw new IllegalArgumentException("第" + index + "个操作不能把 " + from + " 移动到其子路径 " + path);
+            }
+            return new Operation(op, path, from, value);
+        }
+
+        private static Op op(int index, JsonNode node) {
+            if (node == null || !node.isTextual()) {
+                throw new IllegalArgumentException("第" + index + "个操作缺少 op");
+            }
+            try {
+                return Op.valueOf(node.asText().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("第" + index + "个操作的 op 不受支持：" + node.asText());
+            }
+        }
+
+        private static String text(int index, JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            if (value == null || !value.isTextual()) {
+                throw new IllegalArgumentException("第" + index + "个操作缺少 " + field);
+            }
+            try {
+                JsonPointer.compile(value.asText());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("第" + index + "个操作的 " + field + " 不是合法的 JSON Pointer：" + value.asText());
+            }
+            return value.asText();
+        }
+
+        /**
+         * 拆分 JSON Pointer 并反转义（~1 为 /，~0 为 ~），空字符串表示根
+         */
+        private static String[] segments(String pointer) {
+            List<String> segments = new ArrayList<>();
+            for (JsonPointer p = JsonPointer.compile(pointer); !p.matches(); p = p.tail()) {
+                segments.add(p.getMatchingProperty());
+            }
+            return segments.toArray(new String[0]);
+        }
+
+        private static boolean isPrefix(String[] prefix, String[] path) {
+            if (prefix.length >= path.length) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length; i++) {
+                if (!prefix[i].equals(path[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public Op getOp() {
+            return op;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getFrom() {
+            return from;
+        }
+
+        public JsonNode getValue() {
+            return value;
+        }
+
+        String[] pathSegments() {
+            return pathSegments;
+        }
+
+        String[] fromSegments() {
+            return fromSegments;
+        }
+
+        @Override
+        public String toString() {
+            return op.name().toLowerCase(Locale.ROOT) + " " + (from == null ? "" : from + " -> ") + path;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 流式JSON校验器，只逐个读取token判断语法是否合法，不构建 JsonNode 或任何值对象
+ * <p>
+ * 要求输入恰好是一个完整的JSON值（空输入、根值之后还有多余内容均视为非法），
+ * 可选限制嵌套深度、输入长度与值的总个数。实例不可变，线程安全。
+ *
+ * @author yangtao
+ * @since 2025/7/30 16:20
+ */
+public final class JsonValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonValidator.class);
+
+    /**
+     * 不限制
+     */
+    public static final long UNLIMITED = -1;
+
+    private final JsonFactory factory;
+
+    private final int maxDepth;
+
+    private final long maxLength;
+
+    private final long maxElements;
+
+    private JsonValidator(JsonFactory factory, int maxDepth, long maxLength, long maxElements) {
+        this.factory = factory;
+        this.maxDepth = maxDepth;
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+    }
+
+    /**
+     * 基于指定的 JsonFactory 创建不做任何限制的校验器（沿用其解析特性，如是否允许注释）
+     */
+    public static JsonValidator of(JsonFactory factory) {
+        return new JsonValidator(factory, (int) UNLIMITED, UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * 限制最大嵌套深度（对象、数组各算一层），小于0表示不限制
+     */
+    public JsonValidator withMaxDepth(int maxDepth) {
+        return new JsonValidator(factory, maxDepth, maxLength, maxElements);
+    }
+
+    /**
+     * 限制输入长度：String 按字符数，其余按字节数；小于0表示不限制
+     */
+    public JsonValidator withMaxLength(long maxLength) {
+        return new JsonValidator(factory, maxDepth, maxLength, maxElements);
+    }
+
+    /**
+     * 限制值的总个数（每个对象、数组、标量各算一个，字段名不计），小于0表示不限制
+     */
+    public JsonValidator withMaxElements(long maxElements) {
+        return new JsonValidator(factory, maxDepth, maxLength, maxElements);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getMaxLength() {
+        return maxLength;
+    }
+
+    public long getMaxElements() {
+        return maxElements;
+    }
+
+    /*==================  校验  ==================*/
+
+    /**
+     * 校验JSON字符串
+     */
+    public boolean isValid(String json) {
+        if (json == null || exceeds(json.length())) {
+            return false;
+        }
+        try (JsonParser parser = factory.createParser(json)) {
+            return walk(parser);
+        } catch (IOException e) {
+            return invalid(e);
+        }
+    }
+
+    /**
+     * 校验UTF-8（或可自动识别编码的）字节数组
+     */
+    public boolean isValid(byte[] bytes) {
+        return bytes != null && isValid(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 校验字节数组的指定区间
+     */
+    public boolean isValid(byte[] bytes, int offset, int length) {
+        if (bytes == null || exceeds(length)) {
+            return false;
+        }
+        try (JsonParser parser = factory.createParser(bytes, offset, length)) {
+            return walk(parser);
+        } catch (IOException e) {
+            return invalid(e);
+        }
+    }
+
+    /**
+     * 校验 ByteBuffer 中 position 到 limit 之间的内容，不改变其 position
+     */
+    public boolean isValid(ByteBuffer buffer) {
+        if (buffer == null || exceeds(buffer.remaining())) {
+            return false;
+        }
+        if (buffer.hasArray()) {
+            return isValid(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return isValid(new ByteBufferInputStream(buffer.duplicate()));
+    }
+
+    /**
+     * 校验输入流，读取到根值结束（或出错、超限）为止；不关闭输入流
+     */
+    public boolean isValid(InputStream in) {
+        if (in == null) {
+            return false;
+        }
+        InputStream source = maxLength < 0 ? in : new LimitedInputStream(in, maxLength);
+        try (JsonParser parser = factory.createParser(source)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return walk(parser);
+        } catch (IOException e) {
+            return invalid(e);
+        }
+    }
+
+    /*==================  内部方法  ==================*/
+
+    /**
+     * 逐个读取token直至根值结束，并确认其后没有多余内容
+     */
+    private boolean walk(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        int depth = 0;
+        long elements = 0;
+        do {
+            switch (token) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (++depth > maxDepth && maxDepth >= 0) {
+                        return false;
+                    }
+                    elements++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    depth--;
+                    break;
+                case FIELD_NAME:
+                    continue;
+                default:
+                    elements++;
+                    break;
+            }
+            if (elements > maxElements && maxElements >= 0) {
+                return false;
+            }
+            if (depth == 0) {
+                return parser.nextToken() == null;
+            }
+        } while ((token = parser.nextToken()) != null);
+        return false;
+    }
+
+    private boolean exceeds(long length) {
+        return maxLength >= 0 && length > maxLength;
+    }
+
+    private static boolean invalid(IOException e) {
+        if (log.isDebugEnabled()) {
+            log.debug("JSON校验未通过：{}", e.toString());
+        }
+        return false;
+    }
+
+    /**
+     * 读取超出上限即失败的输入流，避免为超长输入读完全部内容
+     */
+    private static final class LimitedInputStream extends InputStream {
+
+        private final InputStream in;
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long maxLength) {
+            this.in = in;
+            this.remaining = maxLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, remaining >= len ? len : (int) remaining + 1);
+            if (n > 0) {
+                consume(n);
+            }
+            return n;
+        }
+
+        private void consume(int n) throws IOException {
+            remaining -= n;
+            if (remaining < 0) {
+                throw new IOException("输入长度超出上限");
+            }
+        }
+    }
+
+    /**
+     * 基于非堆 ByteBuffer 的输入流
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
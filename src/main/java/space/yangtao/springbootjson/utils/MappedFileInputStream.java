@@ -0,0 +1,116 @@
+package space.yangtao.springbootjson.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 以内存映射方式顺序读取文件的输入流，供 JacksonUtil.parseFile 使用
+ * <p>
+ * 文件按窗口（默认 {@value #DEFAULT_WINDOW_SIZE} 字节）依次映射，读完一个窗口再映射下一个，
+ * 因此可以读取超过 2GB 的文件，且文件内容不会整体进入堆内存。
+ * 映射区域没有显式解除映射的接口，只释放引用，由 GC 回收。非线程安全。
+ *
+ * @author yangtao
+ * @since 2025/8/8 10:10
+ */
+final class MappedFileInputStream extends InputStream {
+
+    static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private final int windowSize;
+
+    /**
+     * 下一个窗口在文件中的起始位置
+     */
+    private long next;
+
+    private MappedByteBuffer window;
+
+    MappedFileInputStream(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileInputStream(Path path, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.windowSize = windowSize;
+        try {
+            this.size = channel.size();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 文件大小
+     */
+    long size() {
+        return size;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return nextWindow() ? window.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextWindow()) {
+            return -1;
+        }
+        int n = Math.min(len, window.remaining());
+        window.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && nextWindow()) {
+            int step = (int) Math.min(n - skipped, window.remaining());
+            window.position(window.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long remaining = (window == null ? 0 : window.remaining()) + (size - next);
+        return (int) Math.min(Integer.MAX_VALUE, remaining);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * 当前窗口读完时映射下一个窗口，文件已读完时返回 false
+     */
+    private boolean nextWindow() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        window = null;
+        if (next >= size) {
+            return false;
+        }
+        long length = Math.min(windowSize, size - next);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, next, length);
+        next += length;
+        return true;
+    }
+}
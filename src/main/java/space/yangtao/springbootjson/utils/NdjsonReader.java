@@ -0,0 +1,438 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON（JSON Lines）并行读取器
+ * <p>
+ * 调用线程按换行边界把输入切成分块（默认 {@value #DEFAULT_CHUNK_SIZE} 字节，超长的行会使分块扩大），
+ * 交给 ForkJoinPool 并行反序列化，再在调用线程上把结果交给消费者，因此消费者与错误回调无需线程安全。
+ * 同时在途的分块数有上限，内存占用约为 分块大小 × 在途分块数。
+ * <p>
+ * 每行一个JSON值，空白行跳过，兼容 \r\n；一行中根值之后还有多余内容视为格式错误。
+ * 格式错误的行交给 {@link LineErrorHandler}（行号从1开始），不中断读取；
+ * 输入读取失败、消费者或回调抛出异常时取消剩余分块并抛出异常。实例不可变，线程安全。
+ *
+ * @author yangtao
+ * @since 2025/8/8 14:30
+ */
+public final class NdjsonReader<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(NdjsonReader.class);
+
+    /**
+     * 默认分块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private static final LineErrorHandler LOG_ERROR = (line, text, cause) ->
+            log.warn("NDJSON第{}行解析失败：{}", line, cause.toString());
+
+    private final ObjectReader reader;
+
+    private final ForkJoinPool pool;
+
+    private final int chunkSize;
+
+    private final int maxInFlight;
+
+    private final boolean ordered;
+
+    private final LineErrorHandler errorHandler;
+
+    private NdjsonReader(ObjectReader reader, ForkJoinPool pool, int chunkSize, int maxInFlight,
+                         boolean ordered, LineErrorHandler errorHandler) {
+        this.reader = reader;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.ordered = ordered;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * 基于元素类型的 ObjectReader 创建读取器：公共 ForkJoinPool、按输入顺序交付、格式错误的行输出 WARN 日志
+     */
+    static <T> NdjsonReader<T> of(ObjectReader reader) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return new NdjsonReader<>(reader.with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS),
+                pool, DEFAULT_CHUNK_SIZE, defaultInFlight(pool), true, LOG_ERROR);
+    }
+
+    /**
+     * 指定解析用的线程池，在途分块上限随之改为其并行度的2倍
+     */
+    public NdjsonReader<T> withPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool 不能为空");
+        }
+        return new NdjsonReader<>(reader, pool, chunkSize, defaultInFlight(pool), ordered, errorHandler);
+    }
+
+    /**
+     * 指定分块大小（字节）
+     */
+    public NdjsonReader<T> withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize 必须大于0");
+        }
+        return new NdjsonReader<>(reader, pool, chunkSize, maxInFlight, ordered, errorHandler);
+    }
+
+    /**
+     * 指定同时在途（已切分、未交付）的分块数上限
+     */
+    public NdjsonReader<T> withMaxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight 必须大于0");
+        }
+        return new NdjsonReader<>(reader, pool, chunkSize, maxInFlight, ordered, errorHandler);
+    }
+
+    /**
+     * true 按输入顺序交付；false 按分块完成的先后交付（分块内部仍保持顺序），慢分块不会阻塞其后的分块
+     */
+    public NdjsonReader<T> withOrdered(boolean ordered) {
+        return new NdjsonReader<>(reader, pool, chunkSize, maxInFlight, ordered, errorHandler);
+    }
+
+    /**
+     * 指定格式错误的行的回调，为空时恢复为输出 WARN 日志
+     */
+    public NdjsonReader<T> withErrorHandler(LineErrorHandler errorHandler) {
+        return new NdjsonReader<>(reader, pool, chunkSize, maxInFlight, ordered,
+                errorHandler == null ? LOG_ERROR : errorHandler);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /*==================  读取  ==================*/
+
+    /**
+     * 读取文件（内存映射方式），返回成功解析的记录数
+     */
+    public long read(Path path, Consumer<? super T> consumer) {
+        try (InputStream in = new MappedFileInputStream(path)) {
+            return read(in, consumer);
+        } catch (IOException e) {
+            throw JacksonUtil.fail(JacksonOperation.PARSE, "打开NDJSON文件失败", "path", path, e);
+        }
+    }
+
+    /**
+     * 读取输入流直到结束，返回成功解析的记录数；不关闭输入流
+     */
+    public long read(InputStream in, Consumer<? super T> consumer) {
+        Pipeline pipeline = new Pipeline(consumer);
+        long line = 1;
+        try {
+            byte[] buffer = pipeline.buffer(chunkSize);
+            int length = 0;
+            int n;
+            while ((n = in.read(buffer, length, buffer.length - length)) >= 0) {
+                length += n;
+                if (length < buffer.length) {
+                    continue;
+                }
+                int cut = lastLineEnd(buffer, length);
+                if (cut < 0) {
+                    // 一行超过了分块大小，扩大分块继续读
+                    buffer = Arrays.copyOf(buffer, grow(buffer.length));
+                    continue;
+                }
+                byte[] rest = pipeline.buffer(Math.max(chunkSize, 2 * (length - cut)));
+                System.arraycopy(buffer, cut, rest, 0, length - cut);
+                pipeline.submit(buffer, cut, line);
+                line += countLines(buffer, cut);
+                buffer = rest;
+                length -= cut;
+            }
+            if (length > 0) {
+                pipeline.submit(buffer, length, line);
+            }
+            pipeline.drain(0);
+            return pipeline.records;
+        } catch (IOException e) {
+            pipeline.cancel();
+            throw JacksonUtil.fail(JacksonOperation.PARSE, "NDJSON第" + line + "行起的输入读取失败", "line", line, e);
+        } catch (InterruptedException e) {
+            pipeline.cancel();
+            Thread.currentThread().interrupt();
+            throw JacksonUtil.fail(JacksonOperation.PARSE, "NDJSON读取被中断", "line", line, e);
+        } catch (RuntimeException | Error e) {
+            pipeline.cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * 解析一个分块，格式错误的行只记录不抛出
+     */
+    private Parsed<T> parse(byte[] bytes, int length, long firstLine) {
+        List<T> values = new ArrayList<>();
+        List<LineError> errors = Collections.emptyList();
+        long line = firstLine;
+        int start = 0;
+        while (start < length) {
+            int end = indexOf(bytes, start, length);
+            int stop = end > start && bytes[end - 1] == '\r' ? end - 1 : end;
+            if (!isBlank(bytes, start, stop)) {
+                try {
+                    values.add(reader.readValue(bytes, start, stop - start));
+                } catch (Exception e) {
+                    if (errors.isEmpty()) {
+                        errors = new ArrayList<>();
+                    }
+                    errors.add(new LineError(values.size(), line,
+                            new String(bytes, start, stop - start, StandardCharsets.UTF_8), e));
+                }
+            }
+            start = end + 1;
+            line++;
+        }
+        return new Parsed<>(bytes, values, errors);
+    }
+
+    /*==================  分块调度  ==================*/
+
+    /**
+     * 一次读取的在途分块；只在调用线程上使用
+     */
+    private final class Pipeline {
+
+        private final Consumer<? super T> consumer;
+
+        private final ArrayDeque<Future<Parsed<T>>> pending = new ArrayDeque<>();
+
+        private final CompletionService<Parsed<T>> completion;
+
+        /**
+         * 已交付分块的缓冲区，供后续分块复用
+         */
+        private final ArrayDeque<byte[]> free = new ArrayDeque<>();
+
+        private int inFlight;
+
+        private long records;
+
+        Pipeline(Consumer<? super T> consumer) {
+            this.consumer = consumer;
+            this.completion = ordered ? null : new ExecutorCompletionService<>(pool);
+        }
+
+        /**
+         * 取一个至少 size 字节的缓冲区，优先复用已交付分块的缓冲区
+         */
+        byte[] buffer(int size) {
+            byte[] recycled = free.pollFirst();
+            return recycled != null && recycled.length >= size ? recycled : new byte[size];
+        }
+
+        void submit(byte[] bytes, int length, long firstLine) throws InterruptedException {
+            drain(maxInFlight - 1);
+            if (ordered) {
+                pending.addLast(pool.submit(() -> parse(bytes, length, firstLine)));
+            } else {
+                pending.addLast(completion.submit(() -> parse(bytes, length, firstLine)));
+            }
+            inFlight++;
+        }
+
+        /**
+         * 交付已完成的分块，直到在途分块数不超过 limit
+         */
+        void drain(int limit) throws InterruptedException {
+            while (inFlight > limit) {
+                Future<Parsed<T>> next = ordered ? pending.pollFirst() : completion.take();
+                if (!ordered) {
+                    pending.remove(next);
+                }
+                inFlight--;
+                deliver(await(next));
+            }
+        }
+
+        private Parsed<T> await(Future<Parsed<T>> future) throws InterruptedException {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw JacksonUtil.fail(JacksonOperation.PARSE, "NDJSON分块解析失败", "records", records,
+                        cause instanceof Exception ? (Exception) cause : e);
+            }
+        }
+
+        private void deliver(Parsed<T> parsed) {
+            int errorIndex = 0;
+            List<T> values = parsed.values;
+            for (int i = 0; i < values.size(); i++) {
+                errorIndex = reportErrors(parsed.errors, errorIndex, i);
+                consumer.accept(values.get(i));
+                records++;
+            }
+            reportErrors(parsed.errors, errorIndex, Integer.MAX_VALUE);
+            if (parsed.bytes.length == chunkSize) {
+                free.addLast(parsed.bytes);
+            }
+        }
+
+        /**
+         * 回调位于第 position 条记录之前的格式错误，返回下一个未回调的错误下标
+         */
+        private int reportErrors(List<LineError> errors, int from, int position) {
+            int i = from;
+            while (i < errors.size() && errors.get(i).position <= position) {
+                LineError error = errors.get(i++);
+                errorHandler.onError(error.line, error.text, error.cause);
+            }
+            return i;
+        }
+
+        void cancel() {
+            for (Future<Parsed<T>> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+            inFlight = 0;
+        }
+    }
+
+    /**
+     * 一个分块的解析结果
+     */
+    private static final class Parsed<T> {
+
+        final byte[] bytes;
+
+        final List<T> values;
+
+        final List<LineError> errors;
+
+        Parsed(byte[] bytes, List<T> values, List<LineError> errors) {
+            this.bytes = bytes;
+            this.values = values;
+            this.errors = errors;
+        }
+    }
+
+    /**
+     * 格式错误的行；position 为其后第一条记录在分块结果中的下标
+     */
+    private static final class LineError {
+
+        final int position;
+
+        final long line;
+
+        final String text;
+
+        final Exception cause;
+
+        LineError(int position, long line, String text, Exception cause) {
+            this.position = position;
+            this.line = line;
+            this.text = text;
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * 格式错误的行的回调，在调用 read 的线程上执行；抛出异常会中断读取
+     */
+    @FunctionalInterface
+    public interface LineErrorHandler {
+
+        /**
+         * @param line  行号，从1开始
+         * @param text  该行内容（UTF-8 解码，不含换行符）
+         * @param cause 解析异常
+         */
+        void onError(long line, String text, Exception cause);
+    }
+
+    /*==================  内部方法  ==================*/
+
+    private static int defaultInFlight(ForkJoinPool pool) {
+        return Math.max(2, pool.getParallelism() * 2);
+    }
+
+    private static int grow(int length) {
+        if (length >= Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("NDJSON单行超出最大分块大小");
+        }
+        return (int) Math.min(Integer.MAX_VALUE - 8, (long) length << 1);
+    }
+
+    /**
+     * 最后一个换行符之后的位置，没有换行符时返回 -1
+     */
+    private static int lastLineEnd(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int length) {
+        for (int i = from; i < length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static long countLines(byte[] bytes, int length) {
+        long lines = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * 按字段投影输出的值，由 {@link JacksonUtil#project} 创建
+ * <p>
+ * 序列化时把原值交给缓存的投影写出器写入同一个 JsonGenerator，因此可以直接作为控制器返回值
+ * 或嵌在其他对象中，由任意 ObjectMapper（包括 Spring MVC 的消息转换器）输出；嵌套时字段路径相对于该值本身。
+ *
+ * @author yangtao
+ * @since 2025/8/11 10:40
+ */
+public final class ProjectedValue implements JsonSerializable {
+
+    private final Object value;
+
+    private final String fields;
+
+    private final ObjectWriter writer;
+
+    ProjectedValue(Object value, String fields, ObjectWriter writer) {
+        this.value = value;
+        this.fields = fields;
+        this.writer = writer;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public String getFields() {
+        return fields;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (writer == null) {
+            serializers.defaultSerializeValue(value, gen);
+        } else if (gen.getOutputContext().inRoot()) {
+            writer.writeValue(gen, value);
+        } else {
+            writer.withAttribute(JacksonProjector.BASE_CONTEXT, gen.getOutputContext()).writeValue(gen, value);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
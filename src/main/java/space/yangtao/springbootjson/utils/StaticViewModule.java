@@ -0,0 +1,79 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 把 @JsonView 固定为某个视图：构造 Bean 序列化器时就去掉该视图不可见的属性
+ * <p>
+ * ObjectWriter#withView 在每次序列化时对每个带视图的属性做一次 isAssignableFrom 判断；
+ * 注册本模块的 mapper 副本（见 JacksonRegistry#view）不设置激活视图即可输出该视图的内容，属性列表只计算一次。
+ * 可见性规则与 Jackson 一致：属性声明的任一视图是目标视图的父类型（或相同）时可见，
+ * 未声明视图的属性跟随 MapperFeature.DEFAULT_VIEW_INCLUSION。
+ *
+ * @author yangtao
+ * @since 2025/8/11 16:10
+ */
+final class StaticViewModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    StaticViewModule(Class<?> view) {
+        super("StaticViewModule-" + view.getName());
+        setSerializerModifier(new Modifier(view));
+    }
+
+    /**
+     * 每个视图的模块互不相同，同一个 mapper 上可以分别注册
+     */
+    @Override
+    public Object getTypeId() {
+        return getModuleName();
+    }
+
+    private static final class Modifier extends BeanSerializerModifier {
+
+        private final Class<?> view;
+
+        Modifier(Class<?> view) {
+            this.view = view;
+        }
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                         List<BeanPropertyWriter> beanProperties) {
+            boolean includeByDefault = config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+            List<BeanPropertyWriter> visible = null;
+            for (int i = 0; i < beanProperties.size(); i++) {
+                BeanPropertyWriter writer = beanProperties.get(i);
+                if (isVisible(writer.getViews(), includeByDefault)) {
+                    if (visible != null) {
+                        visible.add(writer);
+                    }
+                } else if (visible == null) {
+                    visible = new ArrayList<>(beanProperties.subList(0, i));
+                }
+            }
+            return visible == null ? beanProperties : visible;
+        }
+
+        private boolean isVisible(Class<?>[] views, boolean includeByDefault) {
+            if (views == null) {
+                return includeByDefault;
+            }
+            for (Class<?> candidate : views) {
+                if (candidate.isAssignableFrom(view)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
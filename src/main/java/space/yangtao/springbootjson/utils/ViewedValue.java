@@ -0,0 +1,52 @@
+package space.yangtao.springbootjson.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * 按固定视图（@JsonView）输出的值，由 {@link JacksonUtil#withView} 创建
+ * <p>
+ * 序列化时交给该视图预先构建的写出器写入同一个 JsonGenerator，不依赖外层的激活视图，
+ * 可以直接作为控制器返回值，由 Spring MVC 的消息转换器输出。
+ *
+ * @author yangtao
+ * @since 2025/8/11 16:40
+ */
+public final class ViewedValue implements JsonSerializable {
+
+    private final Object value;
+
+    private final Class<?> view;
+
+    private final ObjectWriter writer;
+
+    ViewedValue(Object value, Class<?> view, ObjectWriter writer) {
+        this.value = value;
+        this.view = view;
+        this.writer = writer;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public Class<?> getView() {
+        return view;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        writer.writeValue(gen, value);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}